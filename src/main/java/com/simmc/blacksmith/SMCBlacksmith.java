@@ -81,6 +81,7 @@ public final class SMCBlacksmith extends JavaPlugin {
             if (furnaceManager != null) {
                 furnaceManager.stopTickTask();
                 furnaceManager.saveAll();
+                furnaceManager.closeStorage();
             }
         });
 
@@ -127,6 +128,8 @@ public final class SMCBlacksmith extends JavaPlugin {
         pm.registerEvents(new FurnaceBlockListener(furnaceManager), this);
         pm.registerEvents(new BellowsListener(this, furnaceManager, configManager), this);
         pm.registerEvents(new FurnaceInteractionListener(furnaceManager, configManager), this);
+        pm.registerEvents(new FurnaceChunkListener(furnaceManager), this);
+        pm.registerEvents(new WorldListener(this, furnaceManager), this);
 
         // Forge listeners
         pm.registerEvents(new ForgeListener(forgeManager), this);
@@ -201,6 +204,7 @@ public final class SMCBlacksmith extends JavaPlugin {
 
     public void reload() {
         configManager.loadAll();
+        itemRegistry.clearCache();
         furnaceManager.reload();
         forgeManager.reload();
         quenchingManager.reload();
@@ -3,12 +3,18 @@ package com.simmc.blacksmith.commands;
 import com.simmc.blacksmith.SMCBlacksmith;
 import com.simmc.blacksmith.config.BlacksmithConfig;
 import com.simmc.blacksmith.forge.ForgeCategory;
+import com.simmc.blacksmith.forge.ForgeManager;
 import com.simmc.blacksmith.forge.ForgeRecipe;
 import com.simmc.blacksmith.forge.ForgeSession;
 import com.simmc.blacksmith.forge.gui.ForgeCategoryGUI;
+import com.simmc.blacksmith.furnace.AsyncSmeltingProcessor;
+import com.simmc.blacksmith.furnace.FurnaceHolograms;
 import com.simmc.blacksmith.furnace.FurnaceInstance;
 import com.simmc.blacksmith.furnace.FurnaceManager;
+import com.simmc.blacksmith.furnace.FurnaceRegionStore;
 import com.simmc.blacksmith.furnace.FurnaceType;
+import com.simmc.blacksmith.furnace.RecipeMatchCache;
+import com.simmc.blacksmith.items.ItemKeyCache;
 import org.bukkit.Location;
 import org.bukkit.block.Block;
 import org.bukkit.command.Command;
@@ -242,7 +248,10 @@ public class BlacksmithCommand implements CommandExecutor, TabCompleter {
 
     private void handleInfo(CommandSender sender) {
         sender.sendMessage("§6§lSMCBlacksmith v" + plugin.getDescription().getVersion());
-        sender.sendMessage("§7Furnaces: §f" + plugin.getFurnaceManager().getFurnaceCount());
+        sender.sendMessage("§7Furnaces: §f" + plugin.getFurnaceManager().getFurnaceCount() +
+                " §7(loaded: §f" + plugin.getFurnaceManager().getLoadedFurnaceCount() +
+                "§7, active: §f" + plugin.getFurnaceManager().getActiveFurnaceCount() +
+                "§7, scheduled: §f" + plugin.getFurnaceManager().getScheduledFurnaceCount() + "§7)");
         sender.sendMessage("§7Forge Sessions: §f" + plugin.getForgeManager().getActiveSessionCount());
         sender.sendMessage("");
         sender.sendMessage("§7§lIntegrations:");
@@ -356,7 +365,58 @@ public class BlacksmithCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage("§6§l=== SMCBlacksmith Stats ===");
         sender.sendMessage("§7Memory: §f" + usedMB + "/" + maxMB + "MB");
         sender.sendMessage("§7Furnaces: §f" + plugin.getFurnaceManager().getFurnaceCount());
-        sender.sendMessage("§7Forge Sessions: §f" + plugin.getForgeManager().getActiveSessionCount());
+
+        RecipeMatchCache.CacheStats recipes = plugin.getFurnaceManager().getRecipeCache().getStats();
+        sender.sendMessage("§7Recipe Cache: §f" + recipes.size() + "/" + recipes.maxSize() +
+                " §7(hits: §f" + recipes.hits() + "§7, misses: §f" + recipes.misses() +
+                "§7, evictions: §f" + recipes.evictions() + "§7, " +
+                String.format("%.1f", recipes.hitRate() * 100) + "%)");
+
+        ItemKeyCache.CacheStats items = plugin.getItemRegistry().getCacheStats();
+        sender.sendMessage("§7Item Cache: §f" + items.size() + "/" + items.maxSize() +
+                " §7(hits: §f" + items.hits() + "§7, misses: §f" + items.misses() +
+                "§7, evictions: §f" + items.evictions() + "§7, " +
+                String.format("%.1f", items.hitRate() * 100) + "%)");
+
+        FurnaceManager furnaces = plugin.getFurnaceManager();
+        sender.sendMessage("§7Furnace Tick: §f" + String.format("%.2f/%.2f", furnaces.getLastTickMs(),
+                furnaces.getTickBudgetMs()) + "ms §7(deferred: §f" + furnaces.getDeferredFurnaceCount() +
+                "§7, max lag (1m): §f" + furnaces.getMaxTickLagMs() + "ms§7, overruns: §f" +
+                furnaces.getBudgetOverrunCount() + "§7)");
+
+        int[] lod = furnaces.getLodTierCounts();
+        sender.sendMessage("§7Furnace Detail: §f" + lod[0] + " near, " + lod[1] + " mid, " + lod[2] + " far");
+
+        FurnaceRegionStore storage = plugin.getFurnaceManager().getStorage();
+        sender.sendMessage("§7Furnace Storage: §f" + storage.getOpenRegionCount() + "/" +
+                storage.getIndexedRegionCount() + " regions, " + storage.getJournalBytes() / 1024 + "KB journal, " +
+                storage.getQueuedCount() + " queued, " + storage.getCoalescedCount() + " coalesced" +
+                (storage.isCompacting() ? ", compacting" : ""));
+
+        AsyncSmeltingProcessor async = plugin.getFurnaceManager().getAsyncSmeltingProcessor();
+        if (async != null) {
+            sender.sendMessage("§7Async Smelting: §f" + async.getPendingTaskCount() + " pending, " +
+                    async.getQueuedResultCount() + " queued, " + async.getRejectedCount() + " rejected, " +
+                    async.getStaleCount() + " stale");
+        }
+
+        FurnaceHolograms holograms = plugin.getFurnaceManager().getHolograms();
+        if (holograms != null) {
+            sender.sendMessage("§7Temperature Displays: §f" + holograms.getHologramCount());
+        }
+
+        ForgeManager forge = plugin.getForgeManager();
+        sender.sendMessage("§7Forge Sessions: §f" + forge.getActiveSessionCount());
+
+        long[] latency = forge.getServiceLatencyPercentiles();
+        sender.sendMessage("§7Forge Tick: §f" + String.format("%.2f/%.2f", forge.getLastTickMs(),
+                forge.getTickBudgetMs()) + "ms §7(deferred: §f" + forge.getDeferredSessionCount() +
+                "§7, overruns: §f" + forge.getBudgetOverrunCount() + "§7, latency p50/p95/p99: §f" +
+                latency[0] + "/" + latency[1] + "/" + latency[2] + "ms§7)");
+
+        long[] targets = forge.getTargetPoolStats();
+        sender.sendMessage("§7Forge Targets: §f" + targets[0] + " live, " + forge.getIndexedHitboxCount() +
+                " indexed §7(spawned: §f" + targets[1] + "§7, reused: §f" + targets[2] + "§7)");
         sender.sendMessage("§7Quench Sessions: §f" + plugin.getQuenchingManager().getActiveSessionCount());
     }
 
@@ -92,6 +92,13 @@ public class FurnaceConfig {
 
             builder.badOutputThresholdMs(Math.max(1000, section.getLong("bad_output_threshold_ms", 3000)));
             builder.minIdealRatio(clamp(section.getDouble("min_ideal_ratio", 0.4), 0.1, 0.9));
+            builder.batchSmelting(section.getBoolean("batch_smelting", false));
+
+            ConfigurationSection lodSection = section.getConfigurationSection("lod");
+            if (lodSection != null) {
+                builder.lodDistances(lodSection.getDouble("near_distance", 32), lodSection.getDouble("far_distance", 96));
+                builder.lodIntervals(lodSection.getInt("mid_interval", 4), lodSection.getInt("far_interval", 16));
+            }
 
             parseAllowedInputs(section.getConfigurationSection("allowed_inputs"), builder);
 
@@ -194,7 +201,8 @@ public class FurnaceConfig {
             return Optional.of(new FurnaceRecipe(
                     recipeId, smeltTime, minTemperature,
                     minIdealTemp, maxIdealTemp,
-                    inputs, outputs, badOutputs
+                    inputs, outputs, badOutputs,
+                    section.getBoolean("batch_smelting", false)
             ));
         } catch (Exception e) {
             loadErrors.add("Failed to parse recipe '" + recipeId + "': " + e.getMessage());
@@ -11,17 +11,27 @@ public class MainConfig {
     private String version;
     private String language;
     private int furnaceTicks;
+    private double furnaceTickBudgetMs;
     private int bellowsCooldown;
     private String smithingNameFormat;
 
     // Temperature bar settings
     private boolean temperatureBarEnabled;
+    private String temperatureDisplay;
     private double temperatureBarHeight;
+    private double temperatureBarRadius;
+
+    // Async smelting settings
+    private boolean asyncSmeltingEnabled;
+    private int asyncSmeltingThreads;
+    private int asyncSmeltingMaxPending;
 
     // Forge hit target settings
     private double forgeHitTargetOffsetY;
     private double forgeHitTargetSpreadX;
     private double forgeHitTargetSpreadZ;
+    private double forgeTickBudgetMs;
+    private boolean forgeVirtualTargets;
 
     // Debug settings
     private boolean debugMode;
@@ -33,9 +43,15 @@ public class MainConfig {
         // Furnace settings - handle both string and int values
         furnaceTicks = parseIntValue(config, "furnaces.tick_rate",
                         parseIntValue(config, "furnaces.ticks", 20));
+        furnaceTickBudgetMs = config.getDouble("furnaces.tick_budget_ms", 2.0);
         bellowsCooldown = parseIntValue(config, "furnaces.bellows_cooldown", 20);
         temperatureBarEnabled = config.getBoolean("furnaces.temperature_bar_enabled", true);
+        temperatureDisplay = config.getString("furnaces.temperature_display", "bossbar").trim().toLowerCase();
         temperatureBarHeight = config.getDouble("furnaces.temperature_bar_height", 1.5);
+        temperatureBarRadius = config.getDouble("furnaces.temperature_bar_radius", 16.0);
+        asyncSmeltingEnabled = config.getBoolean("furnaces.async_smelting.enabled", false);
+        asyncSmeltingThreads = config.getInt("furnaces.async_smelting.threads", 2);
+        asyncSmeltingMaxPending = config.getInt("furnaces.async_smelting.max_pending", 512);
 
         // Blacksmithing settings - check new path first, then legacy
         smithingNameFormat = config.getString("blacksmithing.name_format", null);
@@ -51,6 +67,8 @@ public class MainConfig {
         forgeHitTargetOffsetY = config.getDouble("forge.hit_target_offset_y", 1.0);
         forgeHitTargetSpreadX = config.getDouble("forge.hit_target_spread_x", 0.6);
         forgeHitTargetSpreadZ = config.getDouble("forge.hit_target_spread_z", 0.4);
+        forgeTickBudgetMs = config.getDouble("forge.tick_budget_ms", 1.0);
+        forgeVirtualTargets = config.getBoolean("forge.virtual_targets", false);
 
         // Validate settings
         validateSettings();
@@ -85,15 +103,36 @@ public class MainConfig {
             furnaceTicks = 20;
         }
 
+        // Tick budget must leave room for at least one furnace
+        if (furnaceTickBudgetMs < 0.1) {
+            furnaceTickBudgetMs = 0.1;
+        }
+
         // Bellows cooldown must be non-negative
         if (bellowsCooldown < 0) {
             bellowsCooldown = 20;
         }
 
+        // Only the two known displays; anything else falls back to the boss bar
+        if (!temperatureDisplay.equals("bossbar") && !temperatureDisplay.equals("hologram")) {
+            temperatureDisplay = "bossbar";
+        }
+
         // Temperature bar height must be positive
         if (temperatureBarHeight <= 0) {
             temperatureBarHeight = 1.5;
         }
+        if (temperatureBarRadius < 1.0) {
+            temperatureBarRadius = 16.0;
+        }
+
+        // Async smelting needs at least one worker and a usable queue
+        if (asyncSmeltingThreads < 1) {
+            asyncSmeltingThreads = 1;
+        }
+        if (asyncSmeltingMaxPending < 16) {
+            asyncSmeltingMaxPending = 16;
+        }
 
         // Forge hit target Y offset (allow any value, but clamp to reasonable range)
         if (forgeHitTargetOffsetY < 0.0) {
@@ -109,6 +148,11 @@ public class MainConfig {
         if (forgeHitTargetSpreadZ < 0.0) {
             forgeHitTargetSpreadZ = 0.4;
         }
+
+        // Forge tick budget must leave room for at least one session
+        if (forgeTickBudgetMs < 0.1) {
+            forgeTickBudgetMs = 0.1;
+        }
     }
 
     // ==================== GETTERS ====================
@@ -202,14 +246,41 @@ public class MainConfig {
                 .replace("<obfuscated>", "§k");
     }
 
+    public double getFurnaceTickBudgetMs() {
+        return furnaceTickBudgetMs;
+    }
+
     public boolean isTemperatureBarEnabled() {
         return temperatureBarEnabled;
     }
 
+    /**
+     * True when furnaces show one shared hologram instead of per-player boss bars.
+     */
+    public boolean isHologramTemperatureDisplay() {
+        return temperatureDisplay.equals("hologram");
+    }
+
     public double getTemperatureBarHeight() {
         return temperatureBarHeight;
     }
 
+    public double getTemperatureBarRadius() {
+        return temperatureBarRadius;
+    }
+
+    public boolean isAsyncSmeltingEnabled() {
+        return asyncSmeltingEnabled;
+    }
+
+    public int getAsyncSmeltingThreads() {
+        return asyncSmeltingThreads;
+    }
+
+    public int getAsyncSmeltingMaxPending() {
+        return asyncSmeltingMaxPending;
+    }
+
     public boolean isDebugMode() {
         return debugMode;
     }
@@ -225,4 +296,12 @@ public class MainConfig {
     public double getForgeHitTargetSpreadZ() {
         return forgeHitTargetSpreadZ;
     }
+
+    public double getForgeTickBudgetMs() {
+        return forgeTickBudgetMs;
+    }
+
+    public boolean isForgeVirtualTargets() {
+        return forgeVirtualTargets;
+    }
 }
\ No newline at end of file
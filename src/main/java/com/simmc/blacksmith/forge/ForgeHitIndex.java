@@ -0,0 +1,57 @@
+package com.simmc.blacksmith.forge;
+
+import org.bukkit.entity.Interaction;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Routes a hitbox entity id straight to the session and point it belongs to.
+ *
+ * Sessions add a point when it spawns and remove it before it is removed,
+ * so only live targets are indexed. Any Interaction entity that isn't here
+ * belongs to something else and needs no session lookup at all.
+ */
+final class ForgeHitIndex {
+
+    private final Map<UUID, Route> routes;
+
+    ForgeHitIndex() {
+        this.routes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Indexes a spawned point. Virtual points have no hitbox and are skipped.
+     */
+    void add(ForgeSession session, ForgePoint point) {
+        Interaction hitbox = point.getHitbox();
+        if (hitbox != null) {
+            routes.put(hitbox.getUniqueId(), new Route(session, point));
+        }
+    }
+
+    /**
+     * Drops a point; call before {@link ForgePoint#remove()} returns its hitbox.
+     */
+    void remove(ForgePoint point) {
+        Interaction hitbox = point.getHitbox();
+        if (hitbox == null) return;
+
+        // Pooled hitboxes are reused, so only drop the route if it is still this point's
+        routes.computeIfPresent(hitbox.getUniqueId(), (id, route) -> route.point() == point ? null : route);
+    }
+
+    Route get(UUID hitboxId) {
+        return routes.get(hitboxId);
+    }
+
+    int size() {
+        return routes.size();
+    }
+
+    /**
+     * The session and point a hitbox currently serves.
+     */
+    record Route(ForgeSession session, ForgePoint point) {}
+}
@@ -9,6 +9,7 @@ import com.simmc.blacksmith.integration.PlaceholderAPIHook;
 import com.simmc.blacksmith.items.ItemProviderRegistry;
 import com.simmc.blacksmith.quench.QuenchingManager;
 import com.simmc.blacksmith.util.ColorUtil;
+import com.simmc.blacksmith.util.LatencySampler;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -34,7 +35,10 @@ public class ForgeManager {
 
     private static final int ANVIL_SEARCH_RADIUS = 5;
     private static final int CLEANUP_DELAY_TICKS = 40;
-    private static final int MAX_SESSIONS_PER_TICK = 20;
+    private static final double TICK_COST_SMOOTHING = 0.1;
+    private static final int LATENCY_SAMPLES = 1024;
+    // How far a swing reaches virtual targets; matches block reach
+    private static final double VIRTUAL_TARGET_REACH = 4.5;
 
     private final JavaPlugin plugin;
     private final ConfigManager configManager;
@@ -44,9 +48,27 @@ public class ForgeManager {
     private final Map<UUID, ForgeDisplay> displays;
     private final Map<UUID, Location> playerAnvilLocations;
     private final Map<UUID, HammerConfig.HammerType> playerHammerTypes;
+    private final Map<Location, ForgeTargetPool> targetPools;
+    private final ForgeHitIndex hitIndex;
 
     private final Set<UUID> sessionsBeingCleaned;
-    private final List<UUID> tickProcessList;
+
+    // Round-robin tick scheduling
+    private final List<UUID> tickRound;
+    private int tickCursor;
+    private long serverTick;
+    private long tickBudgetNanos;
+    private double sessionTickNanos;
+
+    // Scheduler stats
+    private final LatencySampler serviceLatency;
+    private long deferredCount;
+    private long budgetOverruns;
+    private long lastTickNanos;
+
+    // Target spawns and reuses at anvils whose pools have been destroyed
+    private long closedTargetSpawns;
+    private long closedTargetReuses;
 
     private BukkitTask tickTask;
 
@@ -58,9 +80,13 @@ public class ForgeManager {
         this.displays = new ConcurrentHashMap<>();
         this.playerAnvilLocations = new ConcurrentHashMap<>();
         this.playerHammerTypes = new ConcurrentHashMap<>();
+        this.targetPools = new ConcurrentHashMap<>();
+        this.hitIndex = new ForgeHitIndex();
         this.sessionsBeingCleaned = ConcurrentHashMap.newKeySet();
-        this.tickProcessList = new ArrayList<>(64);
+        this.tickRound = new ArrayList<>(64);
+        this.serviceLatency = new LatencySampler(LATENCY_SAMPLES);
 
+        configureTickBudget();
         startTickTask();
     }
 
@@ -70,28 +96,84 @@ public class ForgeManager {
         tickTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 0L, 1L);
     }
 
+    private void configureTickBudget() {
+        tickBudgetNanos = (long) (configManager.getMainConfig().getForgeTickBudgetMs() * 1_000_000);
+    }
+
     /**
-     * Main tick method - processes all active forge sessions.
+     * Main tick method - processes active forge sessions round-robin within
+     * a time budget. Sessions that don't fit wait for the next tick at the
+     * cursor; sessions run on wall-clock time, so a deferred one loses nothing.
      */
     private void tick() {
-        if (sessions.isEmpty()) return;
+        serverTick++;
+        if (sessions.isEmpty() && tickCursor >= tickRound.size()) return;
+
+        long start = System.nanoTime();
+        long deadline = start + tickBudgetNanos;
+        long now = System.currentTimeMillis();
+
+        // A new round only starts in a later tick than the one that finished the
+        // last, so no session is ticked twice in one tick or measured with a 0ms gap
+        if (tickCursor >= tickRound.size()) {
+            startRound();
+        }
+
+        int serviced = 0;
+        while (tickCursor < tickRound.size()) {
+            UUID playerId = tickRound.get(tickCursor);
+            ForgeSession session = sessions.get(playerId);
+            if (session == null || sessionsBeingCleaned.contains(playerId)) {
+                // Ended since the round started
+                tickCursor++;
+                continue;
+            }
+
+            // Stop before a session that likely won't fit; one always runs so the cursor moves
+            long clock = System.nanoTime();
+            if (serviced > 0 && clock + (long) sessionTickNanos > deadline) {
+                deferredCount += countDeferred();
+                break;
+            }
 
-        tickProcessList.clear();
-        tickProcessList.addAll(sessions.keySet());
+            tickCursor++;
+            serviced++;
+            long gap = session.markServiced(now);
+            if (gap >= 0) serviceLatency.record(gap);
+            tickSession(playerId, session);
 
-        int processed = 0;
-        for (UUID playerId : tickProcessList) {
-            if (sessionsBeingCleaned.contains(playerId)) continue;
-            if (++processed > MAX_SESSIONS_PER_TICK) break;
+            long cost = System.nanoTime() - clock;
+            sessionTickNanos += (cost - sessionTickNanos) * TICK_COST_SMOOTHING;
+        }
 
-            tickSession(playerId);
+        if (tickCursor >= tickRound.size()) {
+            tickRound.clear();
+            tickCursor = 0;
         }
+
+        lastTickNanos = System.nanoTime() - start;
+        if (lastTickNanos > tickBudgetNanos) budgetOverruns++;
     }
 
-    private void tickSession(UUID playerId) {
-        ForgeSession session = sessions.get(playerId);
-        if (session == null) return;
+    private void startRound() {
+        tickRound.clear();
+        tickRound.addAll(sessions.keySet());
+        tickCursor = 0;
+    }
+
+    /**
+     * Live sessions left in the round; ones that ended since it started don't count.
+     */
+    private int countDeferred() {
+        int count = 0;
+        for (int i = tickCursor; i < tickRound.size(); i++) {
+            UUID playerId = tickRound.get(i);
+            if (sessions.containsKey(playerId) && !sessionsBeingCleaned.contains(playerId)) count++;
+        }
+        return count;
+    }
 
+    private void tickSession(UUID playerId, ForgeSession session) {
         // Check timeout
         if (session.isTimedOut()) {
             Player player = Bukkit.getPlayer(playerId);
@@ -112,10 +194,10 @@ public class ForgeManager {
         // Tick session
         session.tick();
 
-        // Update display
+        // Update display on its own staggered cadence
         ForgeDisplay display = displays.get(playerId);
-        if (display != null && display.isValid()) {
-            display.tick(session);
+        if (display != null && display.isValid() && display.isDue(serverTick)) {
+            display.tick(session, serverTick);
         }
 
         // Check completion
@@ -206,6 +288,8 @@ public class ForgeManager {
         // Create session with configurable hit target position
         ForgeSession session = new ForgeSession(playerId, recipe, actualAnvil,
                 hitTargetOffsetY, hitTargetSpreadX, hitTargetSpreadZ);
+        session.setTargetPool(acquireTargetPool(actualAnvil));
+        session.setHitIndex(hitIndex);
         sessions.put(playerId, session);
 
         // Apply hammer bonuses
@@ -393,6 +477,7 @@ public class ForgeManager {
         ForgeSession session = sessions.remove(playerId);
         if (session != null) {
             session.cleanup();
+            releaseTargetPool(session.getTargetPool());
         }
 
         ForgeDisplay display = displays.remove(playerId);
@@ -405,18 +490,91 @@ public class ForgeManager {
         sessionsBeingCleaned.remove(playerId);
     }
 
+    // ==================== TARGET POOLS ====================
+
+    /**
+     * Joins the target pool of an anvil, creating it for the first session there.
+     */
+    private ForgeTargetPool acquireTargetPool(Location anvil) {
+        Location key = anvil.getBlock().getLocation();
+        boolean virtual = isVirtualTargets();
+
+        ForgeTargetPool pool = targetPools.get(key);
+        if (pool == null || pool.isVirtual() != virtual) {
+            // A pool from before a mode switch stays with its sessions until they end
+            pool = new ForgeTargetPool(key, virtual);
+            targetPools.put(key, pool);
+        }
+        pool.retain();
+        return pool;
+    }
+
+    /**
+     * Leaves a target pool, removing its entities once no session uses the anvil.
+     */
+    private void releaseTargetPool(ForgeTargetPool pool) {
+        if (pool == null || !pool.releaseUser()) return;
+
+        targetPools.values().remove(pool);
+        pool.destroy();
+        closedTargetSpawns += pool.getSpawnedCount();
+        closedTargetReuses += pool.getReusedCount();
+    }
+
     // ==================== HIT PROCESSING ====================
 
+    /**
+     * Whose forge target a hitbox is: one map lookup, so Interaction
+     * entities of other plugins are turned away before any session work.
+     *
+     * @return the owning player's id, or null if the entity is not a live target
+     */
+    public UUID getHitTargetOwner(UUID hitboxId) {
+        ForgeHitIndex.Route route = hitIndex.get(hitboxId);
+        return route != null ? route.session().getPlayerId() : null;
+    }
+
     public void processPointHit(Player player, UUID hitboxId) {
+        ForgeHitIndex.Route route = hitIndex.get(hitboxId);
+        if (route == null) return;
+
         UUID playerId = player.getUniqueId();
-        ForgeSession session = sessions.get(playerId);
+        ForgeSession session = route.session();
+        // Only the owner scores, and only while the session is still live
+        if (!session.getPlayerId().equals(playerId) || sessions.get(playerId) != session) return;
+        if (!session.isActive()) return;
+
+        onHitScored(player, session.processHit(route.point()));
+    }
 
+    /**
+     * Scores a virtual target found with {@link #findTargetInSight(Player)}.
+     */
+    public void processPointHit(Player player, ForgePoint point) {
+        ForgeSession session = sessions.get(player.getUniqueId());
         if (session == null || !session.isActive()) return;
 
-        double accuracy = session.processHit(hitboxId);
+        onHitScored(player, session.processHit(point));
+    }
+
+    /**
+     * Virtual target mode: casts the player's line of sight against their
+     * session's targets.
+     *
+     * @return the point the player is looking at, or null
+     */
+    public ForgePoint findTargetInSight(Player player) {
+        ForgeSession session = sessions.get(player.getUniqueId());
+        if (session == null || !session.isActive()) return null;
+
+        Location eye = player.getEyeLocation();
+        return session.findPointOnRay(eye.toVector(), eye.getDirection(), VIRTUAL_TARGET_REACH);
+    }
+
+    private void onHitScored(Player player, double accuracy) {
         if (accuracy < 0) return;
 
-        ForgeDisplay display = displays.get(playerId);
+        ForgeDisplay display = displays.get(player.getUniqueId());
         if (display != null) {
             display.onHit(accuracy);
         }
@@ -611,6 +769,8 @@ public class ForgeManager {
 
     public void reload() {
         cancelAllSessions();
+        configureTickBudget();
+        serviceLatency.clear();
     }
 
     /**
@@ -624,6 +784,13 @@ public class ForgeManager {
         return session != null && session.isActive();
     }
 
+    /**
+     * Whether hit targets are entity-free and resolved by line of sight.
+     */
+    public boolean isVirtualTargets() {
+        return configManager.getMainConfig().isForgeVirtualTargets();
+    }
+
     public ForgeSession getSession(UUID playerId) {
         return sessions.get(playerId);
     }
@@ -631,4 +798,36 @@ public class ForgeManager {
     public int getActiveSessionCount() {
         return sessions.size();
     }
+
+    // ==================== STATS ====================
+
+    public double getTickBudgetMs() { return tickBudgetNanos / 1_000_000.0; }
+    public double getLastTickMs() { return lastTickNanos / 1_000_000.0; }
+    public long getDeferredSessionCount() { return deferredCount; }
+    public long getBudgetOverrunCount() { return budgetOverruns; }
+
+    public int getIndexedHitboxCount() { return hitIndex.size(); }
+
+    /**
+     * @return live target entities, total spawned and reuses, across all anvils
+     */
+    public long[] getTargetPoolStats() {
+        long live = 0, spawned = closedTargetSpawns, reused = closedTargetReuses;
+        for (ForgeTargetPool pool : targetPools.values()) {
+            live += pool.getLiveCount();
+            spawned += pool.getSpawnedCount();
+            reused += pool.getReusedCount();
+        }
+        return new long[]{live, spawned, reused};
+    }
+
+    /**
+     * Time between consecutive ticks of the same session over recent samples;
+     * 50ms means every session ran every server tick.
+     *
+     * @return p50, p95 and p99 in milliseconds
+     */
+    public long[] getServiceLatencyPercentiles() {
+        return serviceLatency.percentiles(0.50, 0.95, 0.99);
+    }
 }
\ No newline at end of file
@@ -1,9 +1,10 @@
 package com.simmc.blacksmith.forge;
 
 import org.bukkit.*;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.BlockDisplay;
-import org.bukkit.entity.Display;
 import org.bukkit.entity.Interaction;
+import org.bukkit.util.BoundingBox;
 import org.bukkit.util.Transformation;
 import org.joml.AxisAngle4f;
 import org.joml.Vector3f;
@@ -13,6 +14,7 @@ import java.util.logging.Level;
 
 /**
  * A clickable hit target that appears during forging minigame.
+ * Its entities are borrowed from the anvil's {@link ForgeTargetPool}.
  */
 public class ForgePoint {
 
@@ -27,17 +29,23 @@ public class ForgePoint {
     private static final double GOOD_ACCURACY = 0.70;
     private static final double POOR_ACCURACY = 0.40;
 
+    private static final float SPAWN_SCALE = 0.35f;
+    private static final int MS_PER_TICK = 50;
+
     private final UUID id;
     private final Location location;
     private final long spawnTime;
     private final long duration;
 
+    private ForgeTargetPool pool;
+    private ForgeTargetPool.Target target;
     private Interaction hitbox;
     private BlockDisplay targetDisplay;
     private boolean hit;
     private boolean expired;
     private boolean removed;
     private int tickCount;
+    private TargetPhase shownPhase;
 
     public ForgePoint(Location location, long durationMs) {
         this.id = UUID.randomUUID();
@@ -52,13 +60,19 @@ public class ForgePoint {
 
     // ==================== LIFECYCLE ====================
 
-    public void spawn() {
+    public void spawn(ForgeTargetPool pool) {
         World world = location.getWorld();
         if (world == null) return;
 
+        this.pool = pool;
         try {
-            spawnHitbox(world);
-            spawnTargetDisplay(world);
+            target = pool.acquire(location);
+            if (target == null) return;
+            hitbox = target.hitbox();
+            targetDisplay = target.display();
+
+            styleTargetDisplay();
+            target.setVisible(true);
             playSpawnEffects(world);
         } catch (Exception e) {
             Bukkit.getLogger().log(Level.WARNING, "[SMCBlacksmith] Failed to spawn forge point", e);
@@ -66,22 +80,15 @@ public class ForgePoint {
         }
     }
 
-    private void spawnHitbox(World world) {
-        hitbox = world.spawn(location.clone().add(0, 0.15, 0), Interaction.class, entity -> {
-            entity.setInteractionWidth(0.4f);
-            entity.setInteractionHeight(0.4f);
-            entity.setResponsive(true);
-        });
-    }
-
-    private void spawnTargetDisplay(World world) {
-        targetDisplay = world.spawn(location, BlockDisplay.class, display -> {
-            display.setBlock(Bukkit.createBlockData(Material.RED_CONCRETE));
-            display.setBrightness(new Display.Brightness(15, 15));
-            display.setGlowing(true);
-            display.setGlowColorOverride(Color.RED);
-            display.setTransformation(createTransformation(0.3f));
-        });
+    /**
+     * Resets a borrowed display to the starting look, without animating
+     * from whatever the previous point left behind.
+     */
+    private void styleTargetDisplay() {
+        targetDisplay.setInterpolationDuration(0);
+        targetDisplay.setBlock(TargetPhase.PERFECT.block);
+        targetDisplay.setGlowColorOverride(TargetPhase.PERFECT.color);
+        targetDisplay.setTransformation(createTransformation(SPAWN_SCALE));
     }
 
     private void playSpawnEffects(World world) {
@@ -101,8 +108,11 @@ public class ForgePoint {
             return;
         }
 
-        double progress = (double) elapsed / duration;
-        updateTargetDisplay(progress);
+        TargetPhase phase = TargetPhase.of((double) elapsed / duration);
+        if (phase != shownPhase) {
+            showPhase(phase, elapsed);
+            shownPhase = phase;
+        }
         spawnBeaconParticle();
     }
 
@@ -110,20 +120,12 @@ public class ForgePoint {
         if (removed) return;
         removed = true;
 
-        safeRemove(hitbox);
-        safeRemove(targetDisplay);
+        if (pool != null) pool.release(target);
+        target = null;
         hitbox = null;
         targetDisplay = null;
     }
 
-    private void safeRemove(org.bukkit.entity.Entity entity) {
-        if (entity != null && !entity.isDead()) {
-            try {
-                entity.remove();
-            } catch (Exception ignored) {}
-        }
-    }
-
     // ==================== HIT PROCESSING ====================
 
     public double hit() {
@@ -147,32 +149,52 @@ public class ForgePoint {
 
     // ==================== VISUAL UPDATES ====================
 
-    private void updateTargetDisplay(double progress) {
+    /**
+     * Sends a phase once: its colour, and a shrink to the phase's end scale
+     * that the client interpolates over the rest of the phase.
+     */
+    private void showPhase(TargetPhase phase, long elapsed) {
         if (targetDisplay == null || targetDisplay.isDead()) return;
 
-        TargetState state = getTargetState(progress);
+        long remaining = (long) (phase.end * duration) - elapsed;
+        int ticks = (int) Math.max(1, (remaining + MS_PER_TICK - 1) / MS_PER_TICK);
 
-        targetDisplay.setBlock(Bukkit.createBlockData(state.material));
-        targetDisplay.setGlowColorOverride(state.color);
-        targetDisplay.setTransformation(createTransformation(state.scale));
-        targetDisplay.setInterpolationDuration(2);
+        targetDisplay.setBlock(phase.block);
+        targetDisplay.setGlowColorOverride(phase.color);
+        targetDisplay.setInterpolationDelay(0);
+        targetDisplay.setInterpolationDuration(ticks);
+        targetDisplay.setTransformation(createTransformation(phase.endScale));
     }
 
-    private TargetState getTargetState(double progress) {
-        if (progress < PERFECT_WINDOW) {
-            return new TargetState(Material.RED_CONCRETE, Color.RED, 0.35f);
-        } else if (progress < GREAT_WINDOW) {
-            return new TargetState(Material.ORANGE_CONCRETE, Color.ORANGE, 0.30f);
-        } else if (progress < GOOD_WINDOW) {
-            return new TargetState(Material.YELLOW_CONCRETE, Color.YELLOW, 0.25f);
-        } else {
-            // Pulse when almost expired
-            float scale = (tickCount % 3 < 2) ? 0.15f : 0.20f;
-            return new TargetState(Material.GRAY_CONCRETE, Color.GRAY, scale);
+    /**
+     * Visual phases, one per timing window. The target shrinks through
+     * each one and is nearly gone when it expires.
+     */
+    private enum TargetPhase {
+        PERFECT(PERFECT_WINDOW, Material.RED_CONCRETE, Color.RED, 0.30f),
+        GREAT(GREAT_WINDOW, Material.ORANGE_CONCRETE, Color.ORANGE, 0.25f),
+        GOOD(GOOD_WINDOW, Material.YELLOW_CONCRETE, Color.YELLOW, 0.20f),
+        EXPIRING(1.0, Material.GRAY_CONCRETE, Color.GRAY, 0.10f);
+
+        private final double end;
+        private final BlockData block;
+        private final Color color;
+        private final float endScale;
+
+        TargetPhase(double end, Material material, Color color, float endScale) {
+            this.end = end;
+            this.block = Bukkit.createBlockData(material);
+            this.color = color;
+            this.endScale = endScale;
         }
-    }
 
-    private record TargetState(Material material, Color color, float scale) {}
+        static TargetPhase of(double progress) {
+            if (progress < PERFECT_WINDOW) return PERFECT;
+            if (progress < GREAT_WINDOW) return GREAT;
+            if (progress < GOOD_WINDOW) return GOOD;
+            return EXPIRING;
+        }
+    }
 
     private Transformation createTransformation(float scale) {
         return new Transformation(
@@ -233,8 +255,15 @@ public class ForgePoint {
     public boolean isExpired() { return expired; }
     public boolean isActive() { return !hit && !expired && !removed; }
     public Interaction getHitbox() { return hitbox; }
-
-    public boolean matchesHitbox(UUID entityId) {
-        return hitbox != null && !hitbox.isDead() && hitbox.getUniqueId().equals(entityId);
+    public long getExpiresAt() { return spawnTime + duration; }
+
+    /**
+     * The volume a swing has to pass through, matching the Interaction hitbox.
+     */
+    public BoundingBox getHitBounds() {
+        double half = ForgeTargetPool.HITBOX_SIZE / 2.0;
+        double minY = location.getY() + ForgeTargetPool.HITBOX_OFFSET_Y;
+        return new BoundingBox(location.getX() - half, minY, location.getZ() - half,
+                location.getX() + half, minY + ForgeTargetPool.HITBOX_SIZE, location.getZ() + half);
     }
 }
\ No newline at end of file
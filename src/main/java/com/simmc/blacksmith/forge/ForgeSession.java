@@ -1,6 +1,9 @@
 package com.simmc.blacksmith.forge;
 
 import org.bukkit.Location;
+import org.bukkit.util.BoundingBox;
+import org.bukkit.util.RayTraceResult;
+import org.bukkit.util.Vector;
 
 import java.util.*;
 
@@ -55,10 +58,18 @@ public class ForgeSession {
     private boolean hasFirstHit;
     private boolean timedOut;
 
+    // Last scheduler visit, for service latency stats
+    private long lastServicedAt;
+
     // Hammer bonuses
     private double hammerSpeedBonus;
     private double hammerAccuracyBonus;
 
+    // Reusable target entities at this session's anvil
+    private ForgeTargetPool targetPool;
+    // Routes this session's hitboxes back to it
+    private ForgeHitIndex hitIndex;
+
     // Hit target position settings (configurable)
     private double hitTargetOffsetY;
     private double hitTargetSpreadX;
@@ -174,9 +185,10 @@ public class ForgeSession {
             if (point.isExpired() && !point.isHit()) {
                 missedPoints++;
                 consecutiveMisses++;
-                // Update activity time on miss (player is engaged but missing)
-                lastActivityTime = System.currentTimeMillis();
-                point.remove();
+                // Update activity time on miss (player is engaged but missing).
+                // Use the expiry instant so a late tick doesn't extend the session.
+                lastActivityTime = Math.max(lastActivityTime, point.getExpiresAt());
+                retirePoint(point);
                 iterator.remove();
             }
         }
@@ -193,8 +205,17 @@ public class ForgeSession {
     private void spawnPoint() {
         Location pointLoc = generatePointLocation();
         ForgePoint point = new ForgePoint(pointLoc, POINT_DURATION);
-        point.spawn();
+        point.spawn(targetPool);
         activePoints.add(point);
+        if (hitIndex != null) hitIndex.add(this, point);
+    }
+
+    /**
+     * Unindexes and removes a point; its hitbox goes back to the pool.
+     */
+    private void retirePoint(ForgePoint point) {
+        if (hitIndex != null) hitIndex.remove(point);
+        point.remove();
     }
 
     private void updateRhythm() {
@@ -212,8 +233,46 @@ public class ForgeSession {
 
     // ==================== HIT PROCESSING ====================
 
-    public double processHit(UUID hitboxId) {
+    /**
+     * Scores a hit on one of this session's points, found through the hit
+     * index or by ray. Points leave the session when they stop being active,
+     * so no list scan is needed.
+     *
+     * @return accuracy, or -1 if the point can no longer be hit
+     */
+    public double processHit(ForgePoint point) {
         long hitTime = System.currentTimeMillis();
+        markActivity(hitTime);
+
+        if (!isHittable(point, hitTime)) return -1;
+        return scoreHit(point, hitTime);
+    }
+
+    /**
+     * Finds the nearest hittable point whose hit box the ray enters within reach.
+     */
+    public ForgePoint findPointOnRay(Vector origin, Vector direction, double reach) {
+        long now = System.currentTimeMillis();
+        ForgePoint nearest = null;
+        double nearestDistSq = Double.MAX_VALUE;
+
+        for (ForgePoint point : activePoints) {
+            if (!isHittable(point, now)) continue;
+
+            BoundingBox bounds = point.getHitBounds();
+            RayTraceResult result = bounds.rayTrace(origin, direction, reach);
+            if (result == null) continue;
+
+            double distSq = result.getHitPosition().distanceSquared(origin);
+            if (distSq < nearestDistSq) {
+                nearest = point;
+                nearestDistSq = distSq;
+            }
+        }
+        return nearest;
+    }
+
+    private void markActivity(long hitTime) {
         lastActivityTime = hitTime;
 
         // Track first hit for timeout logic
@@ -221,33 +280,34 @@ public class ForgeSession {
             hasFirstHit = true;
             firstHitTime = hitTime;
         }
+    }
 
-        for (int i = 0; i < activePoints.size(); i++) {
-            ForgePoint point = activePoints.get(i);
-            if (point.matchesHitbox(hitboxId) && point.isActive()) {
-                double accuracy = point.hit();
+    // A point past its window counts as missed even if no tick has expired it yet
+    private boolean isHittable(ForgePoint point, long now) {
+        return point.isActive() && now < point.getExpiresAt();
+    }
 
-                accuracy = Math.min(1.0, accuracy + hammerAccuracyBonus);
+    private double scoreHit(ForgePoint point, long hitTime) {
+        double accuracy = point.hit();
 
-                hitAccuracies.add(accuracy);
-                hitTimes.add(hitTime);
-                hitsCompleted++;
+        accuracy = Math.min(1.0, accuracy + hammerAccuracyBonus);
 
-                if (accuracy >= 0.9) {
-                    perfectHits++;
-                }
+        hitAccuracies.add(accuracy);
+        hitTimes.add(hitTime);
+        hitsCompleted++;
 
-                // Reset consecutive miss counter on successful hit
-                consecutiveMisses = 0;
+        if (accuracy >= 0.9) {
+            perfectHits++;
+        }
 
-                updateFrame();
-                point.remove();
-                activePoints.remove(i);
+        // Reset consecutive miss counter on successful hit
+        consecutiveMisses = 0;
 
-                return accuracy;
-            }
-        }
-        return -1;
+        updateFrame();
+        retirePoint(point);
+        activePoints.remove(point);
+
+        return accuracy;
     }
 
     private void updateFrame() {
@@ -346,11 +406,30 @@ public class ForgeSession {
 
     // ==================== LIFECYCLE ====================
 
+    /**
+     * Records a scheduler visit.
+     *
+     * @return milliseconds since the previous visit, or -1 on the first
+     */
+    long markServiced(long now) {
+        long gap = lastServicedAt > 0 ? now - lastServicedAt : -1;
+        lastServicedAt = now;
+        return gap;
+    }
+
     public void setHammerBonuses(double speedBonus, double accuracyBonus) {
         this.hammerSpeedBonus = speedBonus;
         this.hammerAccuracyBonus = accuracyBonus;
     }
 
+    void setTargetPool(ForgeTargetPool targetPool) {
+        this.targetPool = targetPool;
+    }
+
+    void setHitIndex(ForgeHitIndex hitIndex) {
+        this.hitIndex = hitIndex;
+    }
+
     public void setActive(boolean active) {
         this.active = active;
     }
@@ -361,7 +440,7 @@ public class ForgeSession {
     }
 
     public void cleanup() {
-        activePoints.forEach(ForgePoint::remove);
+        activePoints.forEach(this::retirePoint);
         activePoints.clear();
     }
 
@@ -379,6 +458,7 @@ public class ForgeSession {
     public boolean isTimedOut() { return timedOut; }
     public boolean hasStartedHitting() { return hasFirstHit; }
     public List<ForgePoint> getActivePoints() { return new ArrayList<>(activePoints); }
+    ForgeTargetPool getTargetPool() { return targetPool; }
 
     public double getProgress() {
         int total = recipe.getHits();
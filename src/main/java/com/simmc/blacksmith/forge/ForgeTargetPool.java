@@ -0,0 +1,173 @@
+package com.simmc.blacksmith.forge;
+
+import com.simmc.blacksmith.util.ObjectPool;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.BlockDisplay;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Interaction;
+
+/**
+ * Reusable hit target entities for one anvil.
+ *
+ * A target is an Interaction hitbox plus a BlockDisplay, or only the display
+ * when targets are virtual and hits are found by ray. Instead of spawning
+ * a fresh pair per point and removing it a second later, points borrow a
+ * pair, move it and make it visible, then hand it back hidden. Hidden
+ * entities are not sent to clients, so idle targets cost no tracker traffic.
+ *
+ * Shared by every session at the anvil; the last session to leave destroys
+ * it. Main thread only.
+ */
+final class ForgeTargetPool {
+
+    // Idle targets kept per anvil; a session rarely shows more than one at a time
+    private static final int MAX_IDLE = 4;
+    static final double HITBOX_OFFSET_Y = 0.15;
+    static final float HITBOX_SIZE = 0.4f;
+
+    private final Location anvilLocation;
+    private final boolean virtual;
+    private final ObjectPool<Target> idle;
+
+    private int users;
+    private boolean destroyed;
+    private int live;
+    private long spawned;
+    private long reused;
+
+    ForgeTargetPool(Location anvilLocation, boolean virtual) {
+        this.anvilLocation = anvilLocation.clone();
+        this.virtual = virtual;
+        this.idle = new ObjectPool<>(this::spawn, target -> target.setVisible(false), MAX_IDLE);
+    }
+
+    // ==================== TARGETS ====================
+
+    /**
+     * Borrows a hidden target moved to {@code at}. The caller styles it and
+     * makes it visible.
+     *
+     * @return the target, or null if the anvil's world is gone
+     */
+    Target acquire(Location at) {
+        boolean pooled = !idle.isEmpty();
+        Target target = idle.acquire();
+
+        if (target != null && !target.isValid()) {
+            // Its chunk unloaded while it sat idle
+            discard(target);
+            pooled = false;
+            target = spawn();
+        }
+        if (target == null) return null;
+
+        if (pooled) reused++;
+        target.moveTo(at);
+        return target;
+    }
+
+    /**
+     * Hides a target and keeps it for the next point, or removes it if the
+     * pool is full or the target is no longer usable.
+     */
+    void release(Target target) {
+        if (target == null) return;
+        if (destroyed || !target.isValid() || !idle.release(target)) {
+            discard(target);
+        }
+    }
+
+    private Target spawn() {
+        World world = anvilLocation.getWorld();
+        if (world == null) return null;
+
+        // Spawned hidden so nothing is sent before the point styles it
+        Interaction hitbox = virtual ? null : world.spawn(anvilLocation, Interaction.class, entity -> {
+            entity.setPersistent(false);
+            entity.setVisibleByDefault(false);
+            entity.setInteractionWidth(HITBOX_SIZE);
+            entity.setInteractionHeight(HITBOX_SIZE);
+            entity.setResponsive(true);
+        });
+        BlockDisplay display = world.spawn(anvilLocation, BlockDisplay.class, entity -> {
+            entity.setPersistent(false);
+            entity.setVisibleByDefault(false);
+            entity.setBrightness(new Display.Brightness(15, 15));
+            entity.setGlowing(true);
+        });
+
+        live++;
+        spawned++;
+        return new Target(hitbox, display);
+    }
+
+    private void discard(Target target) {
+        target.remove();
+        live--;
+    }
+
+    // ==================== USERS ====================
+
+    void retain() {
+        users++;
+    }
+
+    /**
+     * @return true if no session uses the anvil any more
+     */
+    boolean releaseUser() {
+        return --users <= 0;
+    }
+
+    /**
+     * Removes every idle target. Borrowed targets are removed when returned.
+     */
+    void destroy() {
+        destroyed = true;
+        idle.drain(this::discard);
+    }
+
+    // ==================== GETTERS ====================
+
+    boolean isVirtual() { return virtual; }
+    int getLiveCount() { return live; }
+    long getSpawnedCount() { return spawned; }
+    long getReusedCount() { return reused; }
+
+    // ==================== TARGET ====================
+
+    /**
+     * One visible marker and its hitbox; the hitbox is null for virtual targets.
+     */
+    record Target(Interaction hitbox, BlockDisplay display) {
+
+        boolean isValid() {
+            return (hitbox == null || hitbox.isValid()) && display.isValid();
+        }
+
+        void moveTo(Location at) {
+            if (hitbox != null) hitbox.teleport(at.clone().add(0, HITBOX_OFFSET_Y, 0));
+            display.teleport(at);
+        }
+
+        void setVisible(boolean visible) {
+            if (hitbox != null) hitbox.setVisibleByDefault(visible);
+            display.setVisibleByDefault(visible);
+        }
+
+        void remove() {
+            safeRemove(hitbox);
+            safeRemove(display);
+        }
+
+        private static void safeRemove(Entity entity) {
+            if (entity != null && !entity.isDead()) {
+                try {
+                    entity.remove();
+                } catch (Exception ignored) {}
+            }
+        }
+    }
+}
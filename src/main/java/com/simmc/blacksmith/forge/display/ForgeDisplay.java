@@ -5,10 +5,11 @@ import com.simmc.blacksmith.forge.ForgeFrame;
 import com.simmc.blacksmith.forge.ForgeRecipe;
 import com.simmc.blacksmith.forge.ForgeSession;
 import com.simmc.blacksmith.items.ItemProviderRegistry;
+import com.simmc.blacksmith.util.BossBarView;
+import com.simmc.blacksmith.util.TitleCache;
 import org.bukkit.*;
 import org.bukkit.boss.BarColor;
 import org.bukkit.boss.BarStyle;
-import org.bukkit.boss.BossBar;
 import org.bukkit.entity.Display;
 import org.bukkit.entity.ItemDisplay;
 import org.bukkit.entity.Player;
@@ -28,24 +29,46 @@ public class ForgeDisplay {
 
     private static final Logger LOGGER = Bukkit.getLogger();
 
+    // Display, boss bar and particles update every N server ticks, phased per player
+    private static final int UPDATE_INTERVAL = 2;
+    // The item's transformation is only sent as keyframes; the client
+    // interpolates between them. Breathing swings between two keyframes.
+    private static final int BREATHE_HALF_PERIOD_TICKS = 31;
+    private static final float BREATHE_AMPLITUDE = 0.02f;
+    // Growing after a hit, and settling after the hit pulse
+    private static final int SETTLE_TICKS = 8;
+
     // Heat glow colors
     private static final Color COLOR_COLD = Color.fromRGB(255, 100, 50);
     private static final Color COLOR_WARM = Color.fromRGB(255, 150, 50);
     private static final Color COLOR_HOT = Color.fromRGB(255, 200, 80);
     private static final Color COLOR_WHITE_HOT = Color.fromRGB(255, 255, 200);
 
+    // Progress titles by quantized session state, shared by all sessions
+    private static final TitleCache<ProgressTitleKey> PROGRESS_TITLES = new TitleCache<>(256);
+
     private final UUID playerId;
     private final Location anvilLocation;
     private final ForgeRecipe recipe;
     private final ForgeDisplaySettings settings;
 
     private ItemDisplay itemDisplay;
-    private BossBar progressBar;
+    private BossBarView progressBar;
     private boolean spawned;
-    private int tick;
+    // Server tick of the last update, -1 before the first
+    private long tick;
+    // Spreads periodic particles and sounds of different sessions over different ticks
+    private final int phase;
     private int lastFrame = -1;
 
+    // Scale the item grows toward with progress, before breathing
     private float currentScale;
+    // Last keyframe and glow actually sent
+    private float sentScale;
+    private Color sentGlow;
+    private long nextKeyframeTick;
+    private boolean breatheUp;
+    private boolean pulsed;
 
     public ForgeDisplay(UUID playerId, Location anvilLocation, ForgeRecipe recipe) {
         this.playerId = playerId;
@@ -53,8 +76,10 @@ public class ForgeDisplay {
         this.recipe = recipe;
         this.settings = recipe.getDisplaySettingsOrDefault();
         this.spawned = false;
-        this.tick = 0;
+        this.tick = -1;
+        this.phase = Math.floorMod(playerId.hashCode(), 60);
         this.currentScale = settings.baseScale();
+        this.sentScale = settings.baseScale();
     }
 
     // ==================== LIFECYCLE ====================
@@ -92,6 +117,7 @@ public class ForgeDisplay {
             display.setItemDisplayTransform(ItemDisplay.ItemDisplayTransform.GROUND);
             display.setGlowing(true);
             display.setGlowColorOverride(COLOR_COLD);
+            sentGlow = COLOR_COLD;
             display.setBrightness(new Display.Brightness(15, 15));
             display.setShadowRadius(0.5f);
             display.setShadowStrength(0.8f);
@@ -171,7 +197,7 @@ public class ForgeDisplay {
 
     private void spawnProgressBar(Player player) {
         String title = "§6⚒ §e§lFORGING §7[§f0§7/§f" + recipe.getHits() + "§7]";
-        progressBar = Bukkit.createBossBar(title, BarColor.YELLOW, BarStyle.SEGMENTED_10);
+        progressBar = BossBarView.create(title, BarColor.YELLOW, BarStyle.SEGMENTED_10);
         progressBar.setProgress(0);
         progressBar.addPlayer(player);
     }
@@ -202,15 +228,35 @@ public class ForgeDisplay {
 
     // ==================== TICK UPDATE ====================
 
-    public void tick(ForgeSession session) {
+    /**
+     * Whether this display should update on the given server tick. Displays
+     * update every {@value #UPDATE_INTERVAL} ticks, starting on a phase taken
+     * from the player id so sessions don't all update on the same tick.
+     */
+    public boolean isDue(long serverTick) {
+        if (tick < 0) return Math.floorMod(serverTick + phase, UPDATE_INTERVAL) == 0;
+        return serverTick - tick >= UPDATE_INTERVAL;
+    }
+
+    /**
+     * Updates the display for the server ticks since the last update, so a
+     * deferred or staggered session animates at the same rate as any other.
+     */
+    public void tick(ForgeSession session, long serverTick) {
         if (!spawned) return;
-        tick++;
+
+        long previous = tick < 0 ? serverTick - 1 : tick;
+        tick = serverTick;
 
         updateItemDisplay(session);
         updateBossBar(session);
-        spawnAmbientParticles(session);
+        spawnAmbientParticles(session, previous);
     }
 
+    /**
+     * Frame, glow and scale are sent only when they change. Between changes
+     * the item breathes through keyframes half a period apart.
+     */
     private void updateItemDisplay(ForgeSession session) {
         if (itemDisplay == null || itemDisplay.isDead()) return;
 
@@ -228,21 +274,34 @@ public class ForgeDisplay {
         float heatIntensity = (float) progress;
 
         // Update glow color based on heat
-        itemDisplay.setGlowColorOverride(getHeatColor(progress));
+        Color glow = getHeatColor(progress);
+        if (!glow.equals(sentGlow)) {
+            itemDisplay.setGlowColorOverride(glow);
+            sentGlow = glow;
+        }
 
-        // Calculate scale with animation
         float targetScale = settings.baseScale() + (settings.maxScale() - settings.baseScale()) * heatIntensity;
-        currentScale = lerp(currentScale, targetScale, 0.1f);
+        if (targetScale != currentScale || pulsed) {
+            currentScale = targetScale;
+            pulsed = false;
+            sendKeyframe(heatIntensity, SETTLE_TICKS);
+        } else if (tick >= nextKeyframeTick) {
+            breatheUp = !breatheUp;
+            sendKeyframe(heatIntensity, BREATHE_HALF_PERIOD_TICKS);
+        }
+    }
 
-        // Subtle breathing animation
-        float time = tick * 0.05f;
-        float breathe = (float) Math.sin(time * 2) * 0.02f * heatIntensity;
+    private void sendKeyframe(float heatIntensity, int durationTicks) {
+        nextKeyframeTick = tick + durationTicks;
 
-        float finalScale = currentScale + breathe;
+        float breathe = (breatheUp ? BREATHE_AMPLITUDE : -BREATHE_AMPLITUDE) * heatIntensity;
+        float scale = currentScale + breathe;
+        if (scale == sentScale) return;
+        sentScale = scale;
 
         // CLIENT FIX: Update transformation to keep item on top of anvil
-        itemDisplay.setTransformation(createDisplayTransformation(finalScale));
-        itemDisplay.setInterpolationDuration(2);
+        itemDisplay.setTransformation(createDisplayTransformation(scale));
+        itemDisplay.setInterpolationDuration(durationTicks);
         itemDisplay.setInterpolationDelay(0);
     }
 
@@ -271,10 +330,6 @@ public class ForgeDisplay {
         return Color.fromRGB(r, g, blue);
     }
 
-    private float lerp(float a, float b, float t) {
-        return a + (b - a) * t;
-    }
-
     // ==================== DISPLAY LOCATION & TRANSFORMATION ====================
     private Location calculateDisplayLocation() {
         // Get configured offsets (default: center of block, on top surface)
@@ -304,6 +359,9 @@ public class ForgeDisplay {
 
     // ==================== BOSS BAR ====================
 
+    /**
+     * Only fields that changed are sent; the title is reused for identical states.
+     */
     private void updateBossBar(ForgeSession session) {
         if (progressBar == null) return;
 
@@ -312,41 +370,50 @@ public class ForgeDisplay {
         double progress = session.getProgress();
         double accuracy = session.getAverageAccuracy() * 100;
 
-        progressBar.setProgress(Math.min(1.0, progress));
-        progressBar.setTitle(buildProgressTitle(hits, total, accuracy, session));
-        progressBar.setColor(getProgressBarColor(progress, accuracy));
+        int heatTier = progress < 0.3 ? 0 : progress < 0.7 ? 1 : 2;
+
+        // Timeout warning
+        long timeUntilTimeout = session.getTimeUntilTimeout();
+        int timeoutSeconds = timeUntilTimeout < 10000 && timeUntilTimeout > 0 ? (int) (timeUntilTimeout / 1000) : -1;
+
+        // Rating thresholds are whole percentages, so flooring keeps them exact
+        ProgressTitleKey key = new ProgressTitleKey(heatTier, hits, total, (int) accuracy, timeoutSeconds);
+
+        progressBar.update(PROGRESS_TITLES.get(key, this::buildProgressTitle),
+                Math.min(1.0, progress), getProgressBarColor(progress, accuracy));
     }
 
-    private String buildProgressTitle(int hits, int total, double accuracy, ForgeSession session) {
+    private String buildProgressTitle(ProgressTitleKey key) {
         StringBuilder title = new StringBuilder();
 
-        double progress = session.getProgress();
-        if (progress < 0.3) title.append("§6⚒ ");
-        else if (progress < 0.7) title.append("§e⚒ ");
+        if (key.heatTier() == 0) title.append("§6⚒ ");
+        else if (key.heatTier() == 1) title.append("§e⚒ ");
         else title.append("§f⚒ ");
 
-        if (hits > 0) {
-            title.append(getRatingText(accuracy)).append(" ");
+        if (key.hits() > 0) {
+            title.append(getRatingText(key.accuracy())).append(" ");
         } else {
             title.append("§e§lFORGING ");
         }
 
-        title.append("§7[§f").append(hits).append("§7/§f").append(total).append("§7]");
+        title.append("§7[§f").append(key.hits()).append("§7/§f").append(key.total()).append("§7]");
 
-        if (hits > 0) {
-            title.append(" §8| ").append(getAccuracyColor(accuracy)).append((int) accuracy).append("%");
+        if (key.hits() > 0) {
+            title.append(" §8| ").append(getAccuracyColor(key.accuracy())).append(key.accuracy()).append("%");
         }
 
-        // Timeout warning
-        long timeUntilTimeout = session.getTimeUntilTimeout();
-        if (timeUntilTimeout < 10000 && timeUntilTimeout > 0) {
-            int seconds = (int) (timeUntilTimeout / 1000);
-            title.append(" §c§l⚠ ").append(seconds).append("s");
+        if (key.timeoutSeconds() >= 0) {
+            title.append(" §c§l⚠ ").append(key.timeoutSeconds()).append("s");
         }
 
         return title.toString();
     }
 
+    /**
+     * Everything the progress title shows. timeoutSeconds is -1 outside the warning window.
+     */
+    private record ProgressTitleKey(int heatTier, int hits, int total, int accuracy, int timeoutSeconds) {}
+
     private String getRatingText(double accuracy) {
         if (accuracy >= 95) return "§a§l★ PERFECT";
         if (accuracy >= 85) return "§a§lGREAT";
@@ -372,9 +439,10 @@ public class ForgeDisplay {
     // ==================== PARTICLES ====================
 
     /**
-     * Spawn ambient particles during forging.
+     * Spawn ambient particles during forging. Each effect fires when its
+     * period boundary falls between the previous update and this one.
      */
-    private void spawnAmbientParticles(ForgeSession session) {
+    private void spawnAmbientParticles(ForgeSession session, long previous) {
         World world = anvilLocation.getWorld();
         if (world == null) return;
 
@@ -382,27 +450,31 @@ public class ForgeDisplay {
         double heat = session.getProgress();
 
         // Spawn particles less frequently for performance
-        if (tick % 5 == 0 && heat > 0.1) {
+        if (crossed(previous, 5) && heat > 0.1) {
             int count = 1 + (int) (heat * 1.5);
             world.spawnParticle(Particle.SMALL_FLAME, particleLoc, count, 0.06, 0.02, 0.06, 0.004);
         }
 
         // Spark particles
-        if (heat > 0.4 && tick % 10 == 0) {
+        if (heat > 0.4 && crossed(previous, 10)) {
             world.spawnParticle(Particle.ELECTRIC_SPARK, particleLoc.clone().add(0, 0.1, 0), 1, 0.08, 0.04, 0.08, 0.015);
         }
 
         // Smoke particles
-        if (heat > 0.6 && tick % 15 == 0) {
+        if (heat > 0.6 && crossed(previous, 15)) {
             world.spawnParticle(Particle.CAMPFIRE_COSY_SMOKE, particleLoc.clone().add(0, 0.15, 0), 1, 0.03, 0, 0.03, 0.002);
         }
 
         // Ambient sound
-        if (tick % 60 == 0 && heat > 0.3) {
+        if (crossed(previous, 60) && heat > 0.3) {
             world.playSound(anvilLocation, Sound.BLOCK_FIRE_AMBIENT, 0.25f, 1.5f);
         }
     }
 
+    private boolean crossed(long previous, int period) {
+        return Math.floorDiv(previous + phase, period) != Math.floorDiv(tick + phase, period);
+    }
+
     // ==================== COMPLETION ====================
 
     public void showCompletion(int stars) {
@@ -425,13 +497,13 @@ public class ForgeDisplay {
             title.append(i < stars ? "§6★" : "§8☆");
         }
 
-        progressBar.setTitle(title.toString());
-        progressBar.setProgress(1.0);
+        BarColor color;
+        if (stars >= 5) color = BarColor.PURPLE;
+        else if (stars >= 4) color = BarColor.GREEN;
+        else if (stars >= 2) color = BarColor.YELLOW;
+        else color = BarColor.RED;
 
-        if (stars >= 5) progressBar.setColor(BarColor.PURPLE);
-        else if (stars >= 4) progressBar.setColor(BarColor.GREEN);
-        else if (stars >= 2) progressBar.setColor(BarColor.YELLOW);
-        else progressBar.setColor(BarColor.RED);
+        progressBar.update(title.toString(), 1.0, color);
     }
 
     private void playCompletionEffects(int stars) {
@@ -485,6 +557,10 @@ public class ForgeDisplay {
         float hitScale = currentScale * 1.15f;
         itemDisplay.setTransformation(createDisplayTransformation(hitScale));
         itemDisplay.setInterpolationDuration(1);
+        itemDisplay.setInterpolationDelay(0);
+        // The next update settles back from the pulse
+        sentScale = hitScale;
+        pulsed = true;
 
         if (accuracy >= 0.9) {
             world.spawnParticle(Particle.ELECTRIC_SPARK, loc, 12, 0.08, 0.05, 0.08, 0.03);
@@ -1,6 +1,6 @@
 package com.simmc.blacksmith.furnace;
 
-import com.simmc.blacksmith.config.FuelConfig;
+import com.simmc.blacksmith.items.ItemKey;
 import com.simmc.blacksmith.items.ItemProviderRegistry;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -9,32 +9,43 @@ import org.bukkit.scheduler.BukkitRunnable;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 
 /**
  * Handles asynchronous smelting calculations for furnaces.
- * Offloads heavy computation while keeping Bukkit API calls on main thread.
+ * Offloads recipe matching and progress math while keeping Bukkit API calls on main thread.
+ *
+ * Snapshots carry resolved item keys rather than ItemStack clones, and results are
+ * applied on the main thread in submission order.
  */
 public class AsyncSmeltingProcessor {
 
     private static final int MAX_RESULTS_PER_TICK = 50;
-    private static final long BAD_OUTPUT_THRESHOLD_MS = 5000;
-    private static final long TICK_INTERVAL_MS = 50;
 
     private final JavaPlugin plugin;
     private final ExecutorService executor;
     private final AtomicBoolean running;
+    private final AtomicLong sequence;
+    // In flight from submission until the result is applied on main thread
     private final Map<UUID, SmeltingTask> pendingTasks;
     private final BlockingQueue<SmeltingResult> resultQueue;
+    private final int maxPending;
     private BukkitRunnable resultProcessor;
 
-    public AsyncSmeltingProcessor(JavaPlugin plugin, int threadPoolSize) {
+    // Main thread only
+    private long rejectedCount;
+    private long staleCount;
+
+    public AsyncSmeltingProcessor(JavaPlugin plugin, int threadPoolSize, int maxPending) {
         this.plugin = plugin;
         this.executor = createExecutor(threadPoolSize);
         this.running = new AtomicBoolean(true);
+        this.sequence = new AtomicLong();
         this.pendingTasks = new ConcurrentHashMap<>();
         this.resultQueue = new LinkedBlockingQueue<>();
+        this.maxPending = maxPending;
 
         startResultProcessor();
     }
@@ -51,19 +62,34 @@ public class AsyncSmeltingProcessor {
     // ==================== PUBLIC API ====================
 
     /**
-     * Process furnace tick calculations asynchronously.
+     * Submits a furnace's smelting step to the worker pool.
+     * @return false if the furnace already has a task in flight or the queues are full;
+     *         the caller should then run the step itself
      */
-    public void processAsync(FurnaceInstance furnace, ItemProviderRegistry registry,
-                             FuelConfig fuelConfig, Consumer<SmeltingResult> callback) {
-        if (!running.get()) return;
+    public boolean processAsync(FurnaceInstance furnace, long elapsedMs, ItemProviderRegistry registry,
+                                Consumer<SmeltingResult> callback) {
+        if (!running.get()) return false;
 
         UUID furnaceId = furnace.getId();
-        if (pendingTasks.containsKey(furnaceId)) return;
+        if (pendingTasks.containsKey(furnaceId)) return false;
+
+        // Backpressure - don't queue more work than the workers and drain can keep up with
+        if (pendingTasks.size() >= maxPending) {
+            rejectedCount++;
+            return false;
+        }
 
-        SmeltingSnapshot snapshot = captureSnapshot(furnace);
+        SmeltingSnapshot snapshot = captureSnapshot(furnace, elapsedMs, registry);
         pendingTasks.put(furnaceId, new SmeltingTask(furnaceId, snapshot, callback));
 
-        executor.submit(() -> processTask(furnaceId, snapshot, registry, fuelConfig, callback));
+        try {
+            executor.submit(() -> processTask(snapshot));
+        } catch (RejectedExecutionException e) {
+            pendingTasks.remove(furnaceId);
+            rejectedCount++;
+            return false;
+        }
+        return true;
     }
 
     public void shutdown() {
@@ -83,185 +109,108 @@ public class AsyncSmeltingProcessor {
             Thread.currentThread().interrupt();
         }
 
+        // Apply whatever finished so no smelting progress is lost
+        processResults(Integer.MAX_VALUE);
+
         pendingTasks.clear();
         resultQueue.clear();
     }
 
     // ==================== TASK PROCESSING ====================
 
-    private void processTask(UUID furnaceId, SmeltingSnapshot snapshot,
-                             ItemProviderRegistry registry, FuelConfig fuelConfig,
-                             Consumer<SmeltingResult> callback) {
+    private void processTask(SmeltingSnapshot snapshot) {
         try {
-            SmeltingResult result = processSmeltingLogic(snapshot, registry, fuelConfig);
-            result.setCallback(callback);
-            resultQueue.offer(result);
+            resultQueue.offer(processSmeltingLogic(snapshot));
         } catch (Exception e) {
-            plugin.getLogger().log(Level.WARNING, "Async smelting error for furnace " + furnaceId, e);
-        } finally {
-            pendingTasks.remove(furnaceId);
+            pendingTasks.remove(snapshot.furnaceId());
+            plugin.getLogger().log(Level.WARNING, "Async smelting error for furnace " + snapshot.furnaceId(), e);
         }
     }
 
-    private SmeltingResult processSmeltingLogic(SmeltingSnapshot snapshot,
-                                                ItemProviderRegistry registry,
-                                                FuelConfig fuelConfig) {
-        SmeltingResult result = new SmeltingResult(snapshot.furnaceId());
-        result.setTimestamp(snapshot.timestamp());
-
-        // Calculate burn state
-        BurnCalculation burnCalc = calculateBurning(snapshot, fuelConfig);
-        result.setBurnCalculation(burnCalc);
-
-        // Calculate temperature
-        int newTemp = calculateTemperature(snapshot, burnCalc.newTargetTemperature);
-        result.setNewTemperature(newTemp);
-
-        // Find/verify recipe
+    /**
+     * Mirrors FurnaceInstance.tickSmelting against the snapshot.
+     */
+    private SmeltingResult processSmeltingLogic(SmeltingSnapshot snapshot) {
         FurnaceRecipe recipe = snapshot.currentRecipe();
+        long progress = snapshot.smeltProgress();
+        long timeInside = snapshot.timeInsideIdealRange();
+        long timeOutside = snapshot.timeOutsideIdealRange();
+        boolean reachedIdeal = snapshot.reachedIdeal();
+
         if (recipe == null) {
-            recipe = findMatchingRecipe(snapshot, registry);
-            if (recipe != null) {
-                result.setNewRecipe(recipe);
+            RecipeMatchCache cache = snapshot.recipeCache();
+            recipe = cache != null
+                    ? cache.findMatch(snapshot.type(), snapshot.inputKeys(), snapshot.inputAmounts())
+                    : snapshot.type().findMatchingRecipe(snapshot.inputKeys(), snapshot.inputAmounts());
+            if (recipe == null) {
+                return SmeltingResult.unchanged(snapshot);
             }
+            progress = 0;
+            timeInside = 0;
+            timeOutside = 0;
+            reachedIdeal = false;
+        } else if (!recipe.matchesKeys(snapshot.inputKeys(), snapshot.inputAmounts())) {
+            return SmeltingResult.reset(snapshot);
         }
 
-        // Calculate smelting progress
-        if (recipe != null) {
-            SmeltingProgress progress = calculateSmeltingProgress(snapshot, recipe, newTemp, registry);
-            result.setProgress(progress);
-        }
-
-        return result;
-    }
-
-    // ==================== CALCULATIONS ====================
-
-    private int calculateTemperature(SmeltingSnapshot snapshot, int targetTemp) {
-        int current = snapshot.currentTemperature();
-        int change = snapshot.type().getTemperatureChange();
-        int max = snapshot.type().getMaxTemperature();
-
-        int newTemp;
-        if (current < targetTemp) {
-            newTemp = Math.min(current + change, targetTemp);
-        } else if (current > targetTemp) {
-            newTemp = Math.max(current - change, targetTemp);
-        } else {
-            newTemp = current;
-        }
-
-        return clamp(newTemp, 0, max);
-    }
-
-    private BurnCalculation calculateBurning(SmeltingSnapshot snapshot, FuelConfig fuelConfig) {
-        BurnCalculation calc = new BurnCalculation();
-
-        if (snapshot.burnTimeRemaining() > 0) {
-            calc.newBurnTimeRemaining = snapshot.burnTimeRemaining() - 1;
-            calc.isBurning = true;
-            calc.newTargetTemperature = snapshot.targetTemperature();
-            calc.consumeFuel = false;
-        } else {
-            calc.isBurning = false;
-            calc.consumeFuel = false;
-
-            ItemStack fuel = snapshot.fuelSlot();
-            if (fuel != null && !fuel.getType().isAir()) {
-                fuelConfig.getFuelData(fuel).ifPresent(fuelData -> {
-                    calc.consumeFuel = true;
-                    calc.newBurnTimeRemaining = fuelData.burnTimeTicks();
-                    int maxFuelTemp = snapshot.type().getMaxFuelTemperature();
-                    calc.newTargetTemperature = Math.min(fuelData.temperatureBoost(), maxFuelTemp);
-                    calc.isBurning = true;
-                });
-            }
-
-            if (!calc.isBurning) {
-                calc.newTargetTemperature = 0;
-                calc.newBurnTimeRemaining = 0;
+        int temperature = snapshot.temperature();
+        long elapsedMs = snapshot.elapsedMs();
+
+        if (temperature >= recipe.getMinTemperature()) {
+            if (recipe.isIdealTemperature(temperature)) {
+                timeInside += elapsedMs;
+                timeOutside = Math.max(0, timeOutside - (elapsedMs / 2));
+                reachedIdeal = true;
+                progress += elapsedMs;
+            } else {
+                timeOutside += elapsedMs;
+                progress += (long) (elapsedMs * FurnaceInstance.smeltingEfficiency(recipe, temperature));
             }
         }
 
-        return calc;
-    }
+        // Single-batch view; the main thread re-checks batch jobs against their scaled total
+        boolean complete = progress >= recipe.getSmeltTimeMs();
+        boolean success = complete && FurnaceInstance.isGoodOutput(snapshot.type(), 1, reachedIdeal, timeInside, timeOutside);
 
-    private FurnaceRecipe findMatchingRecipe(SmeltingSnapshot snapshot, ItemProviderRegistry registry) {
-        return snapshot.type().findMatchingRecipe(snapshot.inputSlots(), registry);
+        return new SmeltingResult(snapshot.furnaceId(), snapshot.sequence(), snapshot.stateVersion(),
+                snapshot.inventoryVersion(), snapshot.recipeGeneration(), elapsedMs,
+                recipe, false, progress, timeInside, timeOutside, reachedIdeal, complete, success);
     }
 
-    private SmeltingProgress calculateSmeltingProgress(SmeltingSnapshot snapshot,
-                                                       FurnaceRecipe recipe,
-                                                       int currentTemp,
-                                                       ItemProviderRegistry registry) {
-        SmeltingProgress progress = new SmeltingProgress();
-
-        if (!recipe.matchesInputs(snapshot.inputSlots(), registry)) {
-            progress.shouldReset = true;
-            return progress;
-        }
-
-        boolean isIdeal = snapshot.type().isIdealTemperature(currentTemp);
+    // ==================== SNAPSHOT ====================
 
-        if (isIdeal) {
-            progress.newSmeltProgress = snapshot.smeltProgress() + TICK_INTERVAL_MS;
-            progress.newTimeOutsideIdealRange = 0;
+    private SmeltingSnapshot captureSnapshot(FurnaceInstance furnace, long elapsedMs, ItemProviderRegistry registry) {
+        ItemStack[] slots = furnace.getInputSlots();
+        ItemKey[] keys = new ItemKey[slots.length];
+        int[] amounts = new int[slots.length];
 
-            if (progress.newSmeltProgress >= recipe.getSmeltTimeMs()) {
-                progress.isComplete = true;
-                progress.isSuccess = true;
-            }
-        } else {
-            progress.newSmeltProgress = snapshot.smeltProgress();
-            progress.newTimeOutsideIdealRange = snapshot.timeOutsideIdealRange() + TICK_INTERVAL_MS;
-
-            if (progress.newTimeOutsideIdealRange >= BAD_OUTPUT_THRESHOLD_MS) {
-                progress.isComplete = true;
-                progress.isSuccess = false;
-            }
+        for (int i = 0; i < slots.length; i++) {
+            ItemStack slot = slots[i];
+            if (slot == null || slot.getType().isAir()) continue;
+            keys[i] = registry.resolve(slot);
+            amounts[i] = slot.getAmount();
         }
 
-        return progress;
-    }
-
-    // ==================== SNAPSHOT ====================
-
-    private SmeltingSnapshot captureSnapshot(FurnaceInstance furnace) {
         return new SmeltingSnapshot(
                 furnace.getId(),
+                sequence.incrementAndGet(),
+                furnace.getSmeltStateVersion(),
+                furnace.getInventoryVersion(),
+                furnace.getRecipeCache() != null ? furnace.getRecipeCache().getGeneration() : 0,
                 furnace.getType(),
+                furnace.getRecipeCache(),
                 furnace.getCurrentTemperature(),
-                furnace.getTargetTemperature(),
-                furnace.isBurning(),
-                furnace.getBurnTimeRemaining(),
-                furnace.getSmeltProgressMs(),
-                furnace.getSmeltTimeTotal(),
                 furnace.getCurrentRecipe(),
+                furnace.getSmeltProgressMs(),
+                furnace.getTimeInsideIdealRange(),
                 furnace.getTimeOutsideIdealRange(),
-                copyItemStacks(furnace.getInputSlots()),
-                cloneItem(furnace.getFuelSlot()),
-                cloneItem(furnace.getOutputSlot()),
-                System.currentTimeMillis()
+                furnace.hasReachedIdealDuringSmelting(),
+                keys,
+                amounts,
+                elapsedMs
         );
     }
 
-    private ItemStack[] copyItemStacks(ItemStack[] source) {
-        if (source == null) return new ItemStack[9];
-        ItemStack[] copy = new ItemStack[source.length];
-        for (int i = 0; i < source.length; i++) {
-            copy[i] = cloneItem(source[i]);
-        }
-        return copy;
-    }
-
-    private ItemStack cloneItem(ItemStack item) {
-        return item != null ? item.clone() : null;
-    }
-
-    private int clamp(int value, int min, int max) {
-        return Math.max(min, Math.min(max, value));
-    }
-
     // ==================== RESULT PROCESSOR ====================
 
     private void startResultProcessor() {
@@ -272,30 +221,42 @@ public class AsyncSmeltingProcessor {
                     cancel();
                     return;
                 }
-                processResults();
+                processResults(MAX_RESULTS_PER_TICK);
             }
         };
         resultProcessor.runTaskTimer(plugin, 1L, 1L);
     }
 
-    private void processResults() {
-        SmeltingResult result;
-        int processed = 0;
-
-        while (processed < MAX_RESULTS_PER_TICK && (result = resultQueue.poll()) != null) {
-            Consumer<SmeltingResult> callback = result.getCallback();
-            if (callback != null) {
-                try {
-                    callback.accept(result);
-                } catch (Exception e) {
-                    plugin.getLogger().log(Level.WARNING,
-                            "Error processing smelting result for furnace " + result.getFurnaceId(), e);
-                }
+    /**
+     * Applies finished results in submission order, independent of worker timing.
+     */
+    private void processResults(int limit) {
+        List<SmeltingResult> batch = new ArrayList<>(Math.min(limit, resultQueue.size()));
+        resultQueue.drainTo(batch, limit);
+        if (batch.isEmpty()) return;
+
+        batch.sort(Comparator.comparingLong(SmeltingResult::sequence));
+
+        for (SmeltingResult result : batch) {
+            SmeltingTask task = pendingTasks.remove(result.furnaceId());
+            if (task == null || task.callback() == null) continue;
+
+            try {
+                task.callback().accept(result);
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING,
+                        "Error processing smelting result for furnace " + result.furnaceId(), e);
             }
-            processed++;
         }
     }
 
+    /**
+     * Records a result that was dropped because the furnace changed meanwhile.
+     */
+    public void recordStale() {
+        staleCount++;
+    }
+
     // ==================== STATUS ====================
 
     public boolean hasPendingTask(UUID furnaceId) {
@@ -310,6 +271,14 @@ public class AsyncSmeltingProcessor {
         return resultQueue.size();
     }
 
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public long getStaleCount() {
+        return staleCount;
+    }
+
     public boolean isRunning() {
         return running.get();
     }
@@ -317,77 +286,57 @@ public class AsyncSmeltingProcessor {
     // ==================== INNER TYPES ====================
 
     /**
-     * Immutable snapshot of furnace state.
+     * Immutable snapshot of the state smelting depends on.
+     * Inputs are resolved keys, so workers never touch an ItemStack.
      */
     public record SmeltingSnapshot(
             UUID furnaceId,
+            long sequence,
+            long stateVersion,
+            long inventoryVersion,
+            long recipeGeneration,
             FurnaceType type,
-            int currentTemperature,
-            int targetTemperature,
-            boolean burning,
-            long burnTimeRemaining,
-            long smeltProgress,
-            long smeltTimeTotal,
+            RecipeMatchCache recipeCache,
+            int temperature,
             FurnaceRecipe currentRecipe,
+            long smeltProgress,
+            long timeInsideIdealRange,
             long timeOutsideIdealRange,
-            ItemStack[] inputSlots,
-            ItemStack fuelSlot,
-            ItemStack outputSlot,
-            long timestamp
+            boolean reachedIdeal,
+            ItemKey[] inputKeys,
+            int[] inputAmounts,
+            long elapsedMs
     ) {}
 
     /**
      * Result of async smelting calculation.
      */
-    public static class SmeltingResult {
-        private final UUID furnaceId;
-        private long timestamp;
-        private int newTemperature;
-        private BurnCalculation burnCalculation;
-        private FurnaceRecipe newRecipe;
-        private SmeltingProgress progress;
-        private Consumer<SmeltingResult> callback;
-
-        public SmeltingResult(UUID furnaceId) {
-            this.furnaceId = furnaceId;
+    public record SmeltingResult(
+            UUID furnaceId,
+            long sequence,
+            long stateVersion,
+            long inventoryVersion,
+            long recipeGeneration,
+            long elapsedMs,
+            FurnaceRecipe recipe,
+            boolean reset,
+            long smeltProgress,
+            long timeInsideIdealRange,
+            long timeOutsideIdealRange,
+            boolean reachedIdeal,
+            boolean complete,
+            boolean success
+    ) {
+        static SmeltingResult unchanged(SmeltingSnapshot snapshot) {
+            return new SmeltingResult(snapshot.furnaceId(), snapshot.sequence(), snapshot.stateVersion(),
+                    snapshot.inventoryVersion(), snapshot.recipeGeneration(), snapshot.elapsedMs(), null, false, 0, 0, 0, false, false, false);
         }
 
-        // Getters and setters
-        public UUID getFurnaceId() { return furnaceId; }
-        public long getTimestamp() { return timestamp; }
-        public void setTimestamp(long timestamp) { this.timestamp = timestamp; }
-        public int getNewTemperature() { return newTemperature; }
-        public void setNewTemperature(int temp) { this.newTemperature = temp; }
-        public BurnCalculation getBurnCalculation() { return burnCalculation; }
-        public void setBurnCalculation(BurnCalculation calc) { this.burnCalculation = calc; }
-        public FurnaceRecipe getNewRecipe() { return newRecipe; }
-        public void setNewRecipe(FurnaceRecipe recipe) { this.newRecipe = recipe; }
-        public SmeltingProgress getProgress() { return progress; }
-        public void setProgress(SmeltingProgress progress) { this.progress = progress; }
-        public Consumer<SmeltingResult> getCallback() { return callback; }
-        public void setCallback(Consumer<SmeltingResult> callback) { this.callback = callback; }
-    }
-
-    /**
-     * Burn state calculation results.
-     */
-    public static class BurnCalculation {
-        public boolean isBurning;
-        public long newBurnTimeRemaining;
-        public int newTargetTemperature;
-        public boolean consumeFuel;
-    }
-
-    /**
-     * Smelting progress calculation results.
-     */
-    public static class SmeltingProgress {
-        public boolean shouldReset;
-        public long newSmeltProgress;
-        public long newTimeOutsideIdealRange;
-        public boolean isComplete;
-        public boolean isSuccess;
+        static SmeltingResult reset(SmeltingSnapshot snapshot) {
+            return new SmeltingResult(snapshot.furnaceId(), snapshot.sequence(), snapshot.stateVersion(),
+                    snapshot.inventoryVersion(), snapshot.recipeGeneration(), snapshot.elapsedMs(), null, true, 0, 0, 0, false, false, false);
+        }
     }
 
     private record SmeltingTask(UUID furnaceId, SmeltingSnapshot snapshot, Consumer<SmeltingResult> callback) {}
-}
\ No newline at end of file
+}
@@ -0,0 +1,36 @@
+package com.simmc.blacksmith.furnace;
+
+import org.bukkit.Location;
+import org.bukkit.block.Block;
+
+/**
+ * Immutable block position, packable into a single long.
+ * Layout matches vanilla: 26 bits X, 26 bits Z, 12 bits Y.
+ */
+public record BlockPos(int x, int y, int z) {
+
+    public static BlockPos of(Location location) {
+        return new BlockPos(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    public static BlockPos of(Block block) {
+        return new BlockPos(block.getX(), block.getY(), block.getZ());
+    }
+
+    public static BlockPos fromLong(long packed) {
+        return new BlockPos((int) (packed >> 38), (int) (packed << 52 >> 52), (int) (packed << 26 >> 38));
+    }
+
+    public static long asLong(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    public static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    public long asLong() { return asLong(x, y, z); }
+    public int chunkX() { return x >> 4; }
+    public int chunkZ() { return z >> 4; }
+    public long chunkKey() { return chunkKey(x >> 4, z >> 4); }
+}
@@ -0,0 +1,138 @@
+package com.simmc.blacksmith.furnace;
+
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.io.BukkitObjectInputStream;
+import org.bukkit.util.io.BukkitObjectOutputStream;
+
+import java.io.*;
+import java.util.UUID;
+
+/**
+ * Binary encoding of {@link FurnaceSnapshot}.
+ * Every record starts with the world UUID and packed block position, so
+ * storage can merge records by key without decoding the rest.
+ */
+final class FurnaceCodec {
+
+    // World UUID (2 longs) + packed position
+    static final int KEY_BYTES = 24;
+
+    private FurnaceCodec() {}
+
+    static byte[] encode(FurnaceSnapshot s) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        out.writeLong(s.worldId().getMostSignificantBits());
+        out.writeLong(s.worldId().getLeastSignificantBits());
+        out.writeLong(s.pos().asLong());
+
+        out.writeUTF(s.typeId());
+        out.writeLong(s.savedAt());
+
+        out.writeInt(s.temperature());
+        out.writeInt(s.bellowsBoost());
+        out.writeLong(s.lastBellowsTime());
+
+        out.writeBoolean(s.burning());
+        out.writeInt(s.fuelMaxTemperature());
+        out.writeInt(s.fuelBaseTemperature());
+        out.writeLong(s.burnStartTime());
+        out.writeLong(s.burnEndTime());
+        out.writeLong(s.burnDurationMs());
+        out.writeInt(s.fuelConsumedCount());
+        writeNullableString(out, s.currentFuelType());
+
+        writeNullableString(out, s.recipeId());
+        out.writeLong(s.smeltProgress());
+        out.writeLong(s.smeltTimeTotal());
+        out.writeLong(s.timeInsideIdealRange());
+        out.writeLong(s.timeOutsideIdealRange());
+        out.writeBoolean(s.reachedIdeal());
+
+        byte[] items = encodeItems(s.inputs(), s.fuel(), s.output());
+        out.writeInt(items.length);
+        out.write(items);
+
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    static FurnaceSnapshot decode(byte[] data) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+
+        UUID worldId = new UUID(in.readLong(), in.readLong());
+        BlockPos pos = BlockPos.fromLong(in.readLong());
+
+        String typeId = in.readUTF();
+        long savedAt = in.readLong();
+
+        int temperature = in.readInt();
+        int bellowsBoost = in.readInt();
+        long lastBellowsTime = in.readLong();
+
+        boolean burning = in.readBoolean();
+        int fuelMaxTemperature = in.readInt();
+        int fuelBaseTemperature = in.readInt();
+        long burnStartTime = in.readLong();
+        long burnEndTime = in.readLong();
+        long burnDurationMs = in.readLong();
+        int fuelConsumedCount = in.readInt();
+        String currentFuelType = readNullableString(in);
+
+        String recipeId = readNullableString(in);
+        long smeltProgress = in.readLong();
+        long smeltTimeTotal = in.readLong();
+        long timeInside = in.readLong();
+        long timeOutside = in.readLong();
+        boolean reachedIdeal = in.readBoolean();
+
+        byte[] items = new byte[in.readInt()];
+        in.readFully(items);
+
+        ItemStack[] inputs;
+        ItemStack fuel;
+        ItemStack output;
+        try (BukkitObjectInputStream itemIn = new BukkitObjectInputStream(new ByteArrayInputStream(items))) {
+            inputs = new ItemStack[itemIn.readInt()];
+            for (int i = 0; i < inputs.length; i++) {
+                inputs[i] = (ItemStack) itemIn.readObject();
+            }
+            fuel = (ItemStack) itemIn.readObject();
+            output = (ItemStack) itemIn.readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Corrupt furnace item data", e);
+        }
+
+        return new FurnaceSnapshot(worldId, pos, typeId, savedAt,
+                temperature, bellowsBoost, lastBellowsTime,
+                burning, fuelMaxTemperature, fuelBaseTemperature,
+                burnStartTime, burnEndTime, burnDurationMs, fuelConsumedCount, currentFuelType,
+                recipeId, smeltProgress, smeltTimeTotal, timeInside, timeOutside, reachedIdeal,
+                inputs, fuel, output);
+    }
+
+    // ==================== HELPERS ====================
+
+    private static byte[] encodeItems(ItemStack[] inputs, ItemStack fuel, ItemStack output) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (BukkitObjectOutputStream out = new BukkitObjectOutputStream(bytes)) {
+            out.writeInt(inputs.length);
+            for (ItemStack item : inputs) {
+                out.writeObject(item);
+            }
+            out.writeObject(fuel);
+            out.writeObject(output);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) out.writeUTF(value);
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
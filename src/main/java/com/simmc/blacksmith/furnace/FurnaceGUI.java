@@ -12,10 +12,15 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * Furnace GUI with input restrictions and fuel validation.
+ * One live inventory per furnace, shared by everyone viewing it; changes
+ * are written through to the furnace slot by slot.
  */
 public class FurnaceGUI implements InventoryHolder {
 
@@ -44,9 +49,14 @@ public class FurnaceGUI implements InventoryHolder {
     // Pre-computed interactable slots for fast lookup
     private final boolean[] interactableSlotMask;
 
-    // Track fuel state when GUI opened
-    private ItemStack fuelSlotOnOpen;
-    private int fuelAmountOnOpen;
+    // Furnace slots as this view last saw them, and the furnace inventory version at that point
+    private ItemStack[] seenInputs;
+    private ItemStack seenFuel;
+    private ItemStack seenOutput;
+    private long syncedVersion;
+
+    // Players currently looking at this inventory
+    private final Set<UUID> viewers = new HashSet<>();
 
     public FurnaceGUI(FurnaceInstance furnace, MessageConfig messages,
                       ItemProviderRegistry itemRegistry, FuelConfig fuelConfig) {
@@ -133,6 +143,8 @@ public class FurnaceGUI implements InventoryHolder {
     // ==================== ITEM MANAGEMENT ====================
 
     public void loadItemsFromFurnace() {
+        furnace.settle();
+
         // Load input slots
         ItemStack[] furnaceInputs = furnace.getInputSlots();
         for (int i = 0; i < inputSlots.length; i++) {
@@ -141,10 +153,8 @@ public class FurnaceGUI implements InventoryHolder {
             inventory.setItem(inputSlots[i], item);
         }
 
-        // Load fuel slot and remember what it was
+        // Load fuel slot
         ItemStack fuel = furnace.getFuelSlot();
-        fuelSlotOnOpen = fuel != null ? fuel.clone() : null;
-        fuelAmountOnOpen = fuel != null ? fuel.getAmount() : 0;
         inventory.setItem(fuelSlot, fuel != null ? fuel.clone() : null);
 
         debug("Loaded fuel: " + (fuel != null ? fuel.getType() + " x" + fuel.getAmount() : "null"));
@@ -152,151 +162,137 @@ public class FurnaceGUI implements InventoryHolder {
         // Load output slot
         ItemStack output = furnace.getOutputSlot();
         inventory.setItem(outputSlot, output != null ? output.clone() : null);
+
+        rememberFurnaceSlots();
     }
 
     /**
-     * Saves items from GUI back to furnace.
+     * Writes slots the viewers changed back to the furnace. Every slot is
+     * compared with what this view last saw, so untouched slots cost nothing.
      */
     public void saveItemsToFurnace() {
+        // Furnace changes not yet pushed here must still be picked up by the next sync
+        boolean wasSynced = furnace.getInventoryVersion() == syncedVersion;
+
         // Save input slots
-        ItemStack[] inputs = new ItemStack[inputSlots.length];
         for (int i = 0; i < inputSlots.length; i++) {
             ItemStack item = inventory.getItem(inputSlots[i]);
-            inputs[i] = isValidItem(item) ? item.clone() : null;
+            if (!sameItem(item, seenInputs[i])) {
+                seenInputs[i] = copyOf(item);
+                furnace.setInputSlot(i, seenInputs[i]);
+            }
         }
-        furnace.setInputSlots(inputs);
 
-        // Handle fuel slot carefully
+        // Fuel burns while the view is open - merged rather than overwritten
         saveFuelSlot();
 
         // Save output slot
         ItemStack output = inventory.getItem(outputSlot);
-        furnace.setOutputSlot(isValidItem(output) ? output.clone() : null);
+        if (!sameItem(output, seenOutput)) {
+            seenOutput = copyOf(output);
+            furnace.setOutputSlot(seenOutput);
+        }
+
+        // Our own writes aren't changes to push back
+        if (wasSynced) syncedVersion = furnace.getInventoryVersion();
     }
 
     /**
-     * Saves fuel slot while accounting for fuel consumed by furnace during GUI open.
+     * Pushes what the furnace changed since this view last synced. Only slots
+     * the furnace itself changed are written, so a player's edit waiting to be
+     * saved in another slot survives. Skipped when the inventory version is unchanged.
      */
-    private void saveFuelSlot() {
-        ItemStack guiFuel = inventory.getItem(fuelSlot);
-        ItemStack furnaceFuel = furnace.getFuelSlot();
-
-        boolean guiHasFuel = isValidItem(guiFuel);
-        boolean furnaceHasFuel = isValidItem(furnaceFuel);
-
-        debug("Saving fuel - GUI: " + (guiHasFuel ? guiFuel.getType() + " x" + guiFuel.getAmount() : "null") +
-                " | Furnace: " + (furnaceHasFuel ? furnaceFuel.getType() + " x" + furnaceFuel.getAmount() : "null") +
-                " | OnOpen: " + (fuelSlotOnOpen != null ? fuelSlotOnOpen.getType() + " x" + fuelAmountOnOpen : "null"));
-
-        // Case 1: GUI is empty - player took all fuel or never had any
-        if (!guiHasFuel) {
-            // Player has emptied the fuel slot - clear the furnace's fuel
-            debug("Case 1: GUI empty - clearing furnace fuel slot");
-            furnace.setFuelSlot(null);
-            return;
-        }
+    public void syncFromFurnace() {
+        if (furnace.getInventoryVersion() == syncedVersion) return;
 
-        // Case 2: No fuel existed when GUI opened - player adding new fuel
-        if (fuelAmountOnOpen == 0) {
-            debug("Case 2: Fresh fuel added (was empty on open) - using GUI value: " + guiFuel.getAmount());
-            furnace.setFuelSlot(guiFuel.clone());
-            return;
+        ItemStack[] furnaceInputs = furnace.getInputSlots();
+        for (int i = 0; i < inputSlots.length; i++) {
+            ItemStack current = i < furnaceInputs.length ? furnaceInputs[i] : null;
+            if (!sameItem(current, seenInputs[i])) {
+                inventory.setItem(inputSlots[i], copyOf(current));
+            }
         }
 
-        // Case 3: GUI has fuel and furnace doesn't (furnace consumed all)
-        if (!furnaceHasFuel) {
-            debug("Case 3: Furnace consumed all fuel, player has " + guiFuel.getAmount() + " - using GUI");
-            furnace.setFuelSlot(guiFuel.clone());
-            return;
+        ItemStack output = furnace.getOutputSlot();
+        if (!sameItem(output, seenOutput)) {
+            inventory.setItem(outputSlot, copyOf(output));
         }
 
-        // Case 4: Both have fuel - compare types
-        boolean sameType = guiFuel.getType() == furnaceFuel.getType();
+        syncFuelSlot();
+        rememberFurnaceSlots();
+    }
 
-        if (!sameType) {
-            // Different fuel type - player replaced fuel, use GUI value
-            debug("Case 4a: Different fuel type - using GUI");
-            furnace.setFuelSlot(guiFuel.clone());
-            return;
+    private void rememberFurnaceSlots() {
+        ItemStack[] furnaceInputs = furnace.getInputSlots();
+        seenInputs = new ItemStack[inputSlots.length];
+        for (int i = 0; i < inputSlots.length; i++) {
+            seenInputs[i] = copyOf(i < furnaceInputs.length ? furnaceInputs[i] : null);
         }
+        seenFuel = copyOf(furnace.getFuelSlot());
+        seenOutput = copyOf(furnace.getOutputSlot());
+        syncedVersion = furnace.getInventoryVersion();
+    }
 
-        // Same type - figure out what player did
-        int guiAmount = guiFuel.getAmount();
-        int furnaceAmount = furnaceFuel.getAmount();
-
-        // Calculate what the player changed from when they opened the GUI
-        int playerChange = guiAmount - fuelAmountOnOpen;
-
-        if (playerChange > 0) {
-            // Player added more fuel to existing stack
-            // Add the difference to furnace's current amount
-            int newAmount = furnaceAmount + playerChange;
-            debug("Case 4b: Player added " + playerChange + " fuel, new amount: " + newAmount);
-            ItemStack newFuel = guiFuel.clone();
-            newFuel.setAmount(Math.min(newAmount, guiFuel.getMaxStackSize()));
-            furnace.setFuelSlot(newFuel);
-        } else if (playerChange < 0) {
-            // Player took fuel - apply their take to furnace's current amount
-            int playerTook = -playerChange;
-            int newAmount = Math.max(0, furnaceAmount - playerTook);
-            debug("Case 4c: Player took " + playerTook + " fuel, new amount: " + newAmount);
-
-            if (newAmount <= 0) {
-                furnace.setFuelSlot(null);
-            } else {
-                ItemStack newFuel = furnaceFuel.clone();
-                newFuel.setAmount(newAmount);
-                furnace.setFuelSlot(newFuel);
-            }
-        } else {
-            // Player didn't change amount - keep furnace's consumed state
-            debug("Case 4d: Player unchanged, keeping furnace amount: " + furnaceAmount);
-            // Don't update - furnace has the correct consumed amount
-        }
+    private boolean sameItem(ItemStack a, ItemStack b) {
+        boolean aValid = isValidItem(a);
+        boolean bValid = isValidItem(b);
+        if (!aValid || !bValid) return aValid == bValid;
+        return a.equals(b);
+    }
+
+    private ItemStack copyOf(ItemStack item) {
+        return isValidItem(item) ? item.clone() : null;
     }
 
     /**
-     * Refreshes the GUI with current furnace fuel state.
-     * Called periodically to show fuel being consumed by the furnace.
+     * Writes a viewer's fuel change back to the furnace. The change is the
+     * difference from what this view last saw; more or less of the same fuel
+     * is applied to the furnace's current stack, so fuel burnt meanwhile is
+     * not given back. The result is shown again, so the next save sees no change.
      */
-    public void refreshFuelSlot() {
-        ItemStack furnaceFuel = furnace.getFuelSlot();
+    private void saveFuelSlot() {
         ItemStack guiFuel = inventory.getItem(fuelSlot);
+        if (sameItem(guiFuel, seenFuel)) return;
 
-        boolean furnaceHasFuel = isValidItem(furnaceFuel);
-        boolean guiHasFuel = isValidItem(guiFuel);
-
-        // Case 1: Furnace has no fuel
-        if (!furnaceHasFuel) {
-            if (guiHasFuel && fuelAmountOnOpen > 0) {
-                // Furnace consumed all fuel - clear GUI display
-                inventory.setItem(fuelSlot, null);
-                fuelAmountOnOpen = 0;
-                fuelSlotOnOpen = null;
-                debug("Refreshed fuel display: empty (all consumed)");
-            }
-            return;
+        ItemStack furnaceFuel = furnace.getFuelSlot();
+        ItemStack newFuel;
+
+        if (isValidItem(guiFuel) && isValidItem(seenFuel) && isValidItem(furnaceFuel)
+                && guiFuel.isSimilar(seenFuel) && guiFuel.isSimilar(furnaceFuel)) {
+            int amount = furnaceFuel.getAmount() + guiFuel.getAmount() - seenFuel.getAmount();
+            newFuel = amount > 0 ? furnaceFuel.clone() : null;
+            if (newFuel != null) newFuel.setAmount(Math.min(amount, newFuel.getMaxStackSize()));
+        } else {
+            // Emptied, replaced or newly added - the slot is what the player left
+            newFuel = copyOf(guiFuel);
         }
 
-        // Case 2: Furnace has fuel but GUI is empty - restore display
-        if (!guiHasFuel) {
-            inventory.setItem(fuelSlot, furnaceFuel.clone());
-            fuelAmountOnOpen = furnaceFuel.getAmount();
-            fuelSlotOnOpen = furnaceFuel.clone();
-            debug("Refreshed fuel display: restored " + furnaceFuel.getAmount());
+        debug("Saving fuel - GUI: " + describe(guiFuel) + " | Seen: " + describe(seenFuel) +
+                " | Furnace: " + describe(furnaceFuel) + " -> " + describe(newFuel));
+
+        furnace.setFuelSlot(newFuel);
+        seenFuel = copyOf(newFuel);
+        inventory.setItem(fuelSlot, copyOf(newFuel));
+    }
+
+    /**
+     * Shows fuel the furnace burnt or changed. A viewer's unsaved change is
+     * written first, so burning never overwrites fuel a player just put in.
+     */
+    private void syncFuelSlot() {
+        if (!sameItem(inventory.getItem(fuelSlot), seenFuel)) {
+            saveFuelSlot();
             return;
         }
 
-        // Case 3: Both have fuel - check if we need to update display
-        if (guiFuel.getType() == furnaceFuel.getType()) {
-            // Furnace consumed some fuel - update GUI to show remaining
-            if (furnaceFuel.getAmount() < guiFuel.getAmount()) {
-                inventory.setItem(fuelSlot, furnaceFuel.clone());
-                fuelAmountOnOpen = furnaceFuel.getAmount();
-                debug("Refreshed fuel display: " + furnaceFuel.getAmount() + " (consumed some)");
-            }
+        ItemStack furnaceFuel = furnace.getFuelSlot();
+        if (!sameItem(furnaceFuel, seenFuel)) {
+            inventory.setItem(fuelSlot, copyOf(furnaceFuel));
         }
-        // If types differ, don't change - player may have added different fuel
+    }
+
+    private String describe(ItemStack item) {
+        return isValidItem(item) ? item.getType() + " x" + item.getAmount() : "null";
     }
 
     private boolean isValidItem(ItemStack item) {
@@ -382,9 +378,18 @@ public class FurnaceGUI implements InventoryHolder {
     // ==================== ACTIONS ====================
 
     public void open(Player player) {
+        viewers.add(player.getUniqueId());
         player.openInventory(inventory);
     }
 
+    public void removeViewer(UUID playerId) {
+        viewers.remove(playerId);
+    }
+
+    public boolean hasViewers() {
+        return !viewers.isEmpty();
+    }
+
     public void refresh() {
         loadItemsFromFurnace();
     }
@@ -0,0 +1,223 @@
+package com.simmc.blacksmith.furnace;
+
+import com.simmc.blacksmith.util.TitleCache;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.TextDisplay;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.*;
+
+/**
+ * One shared temperature display per active furnace near a player, replacing
+ * the per-player look-at boss bar when enabled.
+ *
+ * Nearby furnaces are found from each player's surrounding chunks, so
+ * furnaces nobody is near are never visited. Text is built from the state
+ * the furnace already has - a parked furnace is extrapolated, not ticked -
+ * and only pushed when the quantized temperature or progress changes.
+ * Main thread only.
+ */
+public class FurnaceHolograms {
+
+    // Temperature shown in steps of this many degrees
+    private static final int TEMPERATURE_STEP = 5;
+    // Viewer sets are refreshed every N update cycles
+    private static final int VIEWER_REFRESH_CYCLES = 4;
+
+    private final JavaPlugin plugin;
+    private final double height;
+    private final double radius;
+    private final double radiusSquared;
+
+    private final Map<UUID, Hologram> holograms;
+    private final TitleCache<HologramKey> texts;
+    // Furnaces with a player in range -> those players, from the last viewer refresh
+    private final Map<FurnaceInstance, Set<UUID>> watched;
+    private int cycle;
+
+    public FurnaceHolograms(JavaPlugin plugin, double height, double radius) {
+        this.plugin = plugin;
+        this.height = height;
+        this.radius = radius;
+        this.radiusSquared = radius * radius;
+        this.holograms = new HashMap<>();
+        this.texts = new TitleCache<>(512);
+        this.watched = new HashMap<>();
+    }
+
+    // ==================== UPDATE ====================
+
+    /**
+     * Spawns, updates and removes holograms for the loaded furnaces with a
+     * player in range. Furnaces out of everyone's range lose theirs.
+     */
+    public void update(FurnaceIndex furnaces) {
+        if (cycle++ % VIEWER_REFRESH_CYCLES == 0) {
+            findWatched(furnaces);
+        }
+
+        long now = System.currentTimeMillis();
+        Set<UUID> seen = new HashSet<>();
+        for (Map.Entry<FurnaceInstance, Set<UUID>> entry : watched.entrySet()) {
+            FurnaceInstance furnace = entry.getKey();
+            if (furnace.isDormant() || !isActive(furnace) || !isIndexed(furnaces, furnace)) continue;
+            seen.add(furnace.getId());
+
+            Hologram hologram = holograms.get(furnace.getId());
+            if (hologram == null || !hologram.entity.isValid()) {
+                if (hologram != null) hologram.entity.remove();
+                hologram = spawn(furnace);
+                if (hologram == null) continue;
+                holograms.put(furnace.getId(), hologram);
+            }
+            syncViewers(hologram, entry.getValue());
+
+            HologramKey key = keyOf(furnace, now);
+            if (!key.equals(hologram.key)) {
+                hologram.entity.setText(texts.get(key, FurnaceHolograms::render));
+                hologram.key = key;
+            }
+        }
+
+        if (seen.size() != holograms.size()) {
+            holograms.entrySet().removeIf(entry -> {
+                if (seen.contains(entry.getKey())) return false;
+                entry.getValue().entity.remove();
+                return true;
+            });
+        }
+    }
+
+    /**
+     * False once the furnace was removed after the last viewer refresh.
+     */
+    private static boolean isIndexed(FurnaceIndex furnaces, FurnaceInstance furnace) {
+        BlockPos pos = furnace.getBlockPos();
+        return furnaces.get(furnace.getWorld(), pos.x(), pos.y(), pos.z()) == furnace;
+    }
+
+    private static boolean isActive(FurnaceInstance furnace) {
+        return furnace.isBurning() || furnace.getCurrentTemperature() > 0 || furnace.getCurrentRecipe() != null;
+    }
+
+    private Hologram spawn(FurnaceInstance furnace) {
+        World world = furnace.getWorld();
+        if (world == null) return null;
+
+        Location loc = furnace.getLocation().add(0.5, height, 0.5);
+        TextDisplay entity = world.spawn(loc, TextDisplay.class, display -> {
+            display.setPersistent(false);
+            // Hidden until a player comes within range
+            display.setVisibleByDefault(false);
+            display.setBillboard(Display.Billboard.CENTER);
+            display.setShadowed(true);
+            display.setAlignment(TextDisplay.TextAlignment.CENTER);
+        });
+        return new Hologram(entity);
+    }
+
+    // ==================== VIEWERS ====================
+
+    /**
+     * Collects the furnaces within range of each player, looking only at
+     * the chunks the range covers.
+     */
+    private void findWatched(FurnaceIndex furnaces) {
+        watched.clear();
+        int chunkRadius = (int) Math.ceil(radius / 16.0);
+
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            World world = player.getWorld();
+            Location loc = player.getLocation();
+            int centerX = loc.getBlockX() >> 4;
+            int centerZ = loc.getBlockZ() >> 4;
+
+            for (int cx = centerX - chunkRadius; cx <= centerX + chunkRadius; cx++) {
+                for (int cz = centerZ - chunkRadius; cz <= centerZ + chunkRadius; cz++) {
+                    for (FurnaceInstance furnace : furnaces.getChunk(world, cx, cz)) {
+                        BlockPos pos = furnace.getBlockPos();
+                        double dx = loc.getX() - pos.x() - 0.5;
+                        double dy = loc.getY() - pos.y() - height - 0.5;
+                        double dz = loc.getZ() - pos.z() - 0.5;
+                        if (dx * dx + dy * dy + dz * dz > radiusSquared) continue;
+                        watched.computeIfAbsent(furnace, k -> new HashSet<>()).add(player.getUniqueId());
+                    }
+                }
+            }
+        }
+    }
+
+    private void syncViewers(Hologram hologram, Set<UUID> inRange) {
+        for (UUID playerId : inRange) {
+            if (hologram.viewers.contains(playerId)) continue;
+            Player player = Bukkit.getPlayer(playerId);
+            if (player == null) continue;
+            hologram.viewers.add(playerId);
+            player.showEntity(plugin, hologram.entity);
+        }
+
+        Iterator<UUID> it = hologram.viewers.iterator();
+        while (it.hasNext()) {
+            UUID viewerId = it.next();
+            if (inRange.contains(viewerId)) continue;
+            it.remove();
+            Player viewer = Bukkit.getPlayer(viewerId);
+            if (viewer != null) viewer.hideEntity(plugin, hologram.entity);
+        }
+    }
+
+    // ==================== TEXT ====================
+
+    private static HologramKey keyOf(FurnaceInstance furnace, long now) {
+        int temperature = furnace.getCurrentTemperature() / TEMPERATURE_STEP * TEMPERATURE_STEP;
+        int percent = furnace.getCurrentRecipe() != null ? (int) (furnace.estimateSmeltProgress(now) * 100) : -1;
+        return new HologramKey(furnace.getTemperatureStatusCode(), temperature, percent, furnace.isBurning());
+    }
+
+    private static String render(HologramKey key) {
+        StringBuilder text = new StringBuilder();
+        text.append(FurnaceManager.STATUS_DISPLAY[key.statusCode()]);
+        text.append(" §7| ").append(FurnaceManager.STATUS_COLOR[key.statusCode()]).append(key.temperature()).append("°C");
+        text.append(key.burning() ? " §6🔥" : " §8🔥");
+
+        if (key.percent() >= 0) {
+            text.append("\n§7Smelting: §f").append(key.percent()).append("%");
+        }
+        return text.toString();
+    }
+
+    // ==================== LIFECYCLE ====================
+
+    /**
+     * Removes every hologram entity.
+     */
+    public void clear() {
+        holograms.values().forEach(hologram -> hologram.entity.remove());
+        holograms.clear();
+        texts.clear();
+        watched.clear();
+    }
+
+    public int getHologramCount() { return holograms.size(); }
+
+    // ==================== INNER TYPES ====================
+
+    /**
+     * What the text shows. percent is -1 when no recipe is loaded.
+     */
+    private record HologramKey(int statusCode, int temperature, int percent, boolean burning) {}
+
+    private static final class Hologram {
+        private final TextDisplay entity;
+        private final Set<UUID> viewers = new HashSet<>();
+        private HologramKey key;
+
+        Hologram(TextDisplay entity) {
+            this.entity = entity;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.simmc.blacksmith.furnace;
+
+import com.simmc.blacksmith.util.LongObjectMap;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Spatial furnace index: world -> chunk -> packed block position.
+ * Point lookups allocate nothing, and chunk/world queries only touch their own buckets.
+ * Not thread-safe - main thread only.
+ */
+public class FurnaceIndex {
+
+    private final Map<UUID, LongObjectMap<LongObjectMap<FurnaceInstance>>> worlds = new HashMap<>();
+    private int size;
+
+    public FurnaceInstance get(World world, int x, int y, int z) {
+        LongObjectMap<FurnaceInstance> chunk = getBucket(world, x >> 4, z >> 4);
+        return chunk != null ? chunk.get(BlockPos.asLong(x, y, z)) : null;
+    }
+
+    /**
+     * @return the furnace previously at this position, or null
+     */
+    public FurnaceInstance put(World world, BlockPos pos, FurnaceInstance furnace) {
+        LongObjectMap<LongObjectMap<FurnaceInstance>> chunks =
+                worlds.computeIfAbsent(world.getUID(), k -> new LongObjectMap<>());
+        LongObjectMap<FurnaceInstance> chunk = chunks.get(pos.chunkKey());
+        if (chunk == null) {
+            chunk = new LongObjectMap<>();
+            chunks.put(pos.chunkKey(), chunk);
+        }
+        FurnaceInstance previous = chunk.put(pos.asLong(), furnace);
+        if (previous == null) size++;
+        return previous;
+    }
+
+    public FurnaceInstance remove(World world, int x, int y, int z) {
+        LongObjectMap<LongObjectMap<FurnaceInstance>> chunks = worlds.get(world.getUID());
+        if (chunks == null) return null;
+
+        long chunkKey = BlockPos.chunkKey(x >> 4, z >> 4);
+        LongObjectMap<FurnaceInstance> chunk = chunks.get(chunkKey);
+        if (chunk == null) return null;
+
+        FurnaceInstance removed = chunk.remove(BlockPos.asLong(x, y, z));
+        if (removed != null) {
+            size--;
+            if (chunk.isEmpty()) chunks.remove(chunkKey);
+            if (chunks.isEmpty()) worlds.remove(world.getUID());
+        }
+        return removed;
+    }
+
+    public List<FurnaceInstance> getChunk(World world, int chunkX, int chunkZ) {
+        LongObjectMap<FurnaceInstance> chunk = getBucket(world, chunkX, chunkZ);
+        return chunk != null ? chunk.values() : Collections.emptyList();
+    }
+
+    /**
+     * True if any chunk in the inclusive chunk range holds a furnace. Allocation-free.
+     */
+    public boolean hasFurnaceInChunks(World world, int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ) {
+        if (world == null) return false;
+        LongObjectMap<LongObjectMap<FurnaceInstance>> chunks = worlds.get(world.getUID());
+        if (chunks == null) return false;
+
+        for (int cx = minChunkX; cx <= maxChunkX; cx++) {
+            for (int cz = minChunkZ; cz <= maxChunkZ; cz++) {
+                if (chunks.containsKey(BlockPos.chunkKey(cx, cz))) return true;
+            }
+        }
+        return false;
+    }
+
+    public List<FurnaceInstance> getWorld(World world) {
+        LongObjectMap<LongObjectMap<FurnaceInstance>> chunks = worlds.get(world.getUID());
+        if (chunks == null) return Collections.emptyList();
+
+        List<FurnaceInstance> result = new ArrayList<>();
+        for (LongObjectMap<FurnaceInstance> chunk : chunks.values()) {
+            result.addAll(chunk.values());
+        }
+        return result;
+    }
+
+    public int countInWorld(World world) {
+        LongObjectMap<LongObjectMap<FurnaceInstance>> chunks = worlds.get(world.getUID());
+        if (chunks == null) return 0;
+
+        int count = 0;
+        for (LongObjectMap<FurnaceInstance> chunk : chunks.values()) {
+            count += chunk.size();
+        }
+        return count;
+    }
+
+    public List<FurnaceInstance> values() {
+        List<FurnaceInstance> result = new ArrayList<>(size);
+        for (LongObjectMap<LongObjectMap<FurnaceInstance>> chunks : worlds.values()) {
+            for (LongObjectMap<FurnaceInstance> chunk : chunks.values()) {
+                result.addAll(chunk.values());
+            }
+        }
+        return result;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    private LongObjectMap<FurnaceInstance> getBucket(World world, int chunkX, int chunkZ) {
+        if (world == null) return null;
+        LongObjectMap<LongObjectMap<FurnaceInstance>> chunks = worlds.get(world.getUID());
+        return chunks != null ? chunks.get(BlockPos.chunkKey(chunkX, chunkZ)) : null;
+    }
+}
@@ -4,10 +4,13 @@ import com.simmc.blacksmith.config.FuelConfig;
 import com.simmc.blacksmith.items.ItemProviderRegistry;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Furnace with time-based burning system.
@@ -29,6 +32,9 @@ public class FurnaceInstance {
     private final UUID id;
     private final FurnaceType type;
     private final Location location;
+    private final BlockPos blockPos;
+    // Shared across all furnaces; null falls back to matching directly
+    private final RecipeMatchCache recipeCache;
 
     // Temperature
     private int currentTemperature;
@@ -54,6 +60,8 @@ public class FurnaceInstance {
     private long timeOutsideIdealRange;
     private long timeInsideIdealRange;
     private boolean reachedIdealDuringSmelting;
+    // Whole recipe batches in the current job; smeltTimeTotal is scaled by it
+    private int batchCount = 1;
 
     // Inventory
     private ItemStack[] inputSlots;
@@ -63,12 +71,47 @@ public class FurnaceInstance {
     // Timing
     private long lastTickTime;
     private boolean dirty;
+    // Fingerprint of the persistent state at the last save or restore
+    private long savedFingerprint;
     private long lastDebugLog;
 
+    // Dormancy - set while the furnace's chunk is unloaded
+    private boolean dormant;
+
+    // Sleep - set while the furnace is cold and empty, so ticking can't change it
+    private boolean sleeping;
+    private Consumer<FurnaceInstance> wakeListener;
+
+    // Parked - steady state, serviced only at its next predicted event
+    private boolean parked;
+    private Consumer<FurnaceInstance> settleHandler;
+
+    // Level of detail - serviced every lodInterval furnace ticks, set by the manager
+    private int lodInterval = 1;
+    private int lodCountdown;
+    // Last tick loop visit; 0 after parking, sleeping or unloading, so the wait away isn't lag
+    private long lastServicedAt;
+
+    // Async smelting - version guards results computed from a stale snapshot
+    private long smeltStateVersion;
+    private long deferredSmeltMs;
+
+    // Bumped whenever an input, fuel or output slot changes - lets open GUIs skip unchanged furnaces
+    private long inventoryVersion;
+    // Inventory version and cache generation at which no recipe matched; -1 when unknown
+    private long unmatchedVersion = -1;
+    private long unmatchedGeneration;
+
     public FurnaceInstance(FurnaceType type, Location location) {
+        this(type, location, null);
+    }
+
+    public FurnaceInstance(FurnaceType type, Location location, RecipeMatchCache recipeCache) {
         this.id = UUID.randomUUID();
         this.type = type;
         this.location = location.clone();
+        this.blockPos = BlockPos.of(location);
+        this.recipeCache = recipeCache;
         this.inputSlots = new ItemStack[DEFAULT_INPUT_SLOTS];
         this.lastTickTime = System.currentTimeMillis();
         this.lastBellowsTime = 0;
@@ -107,11 +150,22 @@ public class FurnaceInstance {
      * Main tick method - called periodically by FurnaceManager.
      */
     public void tick(ItemProviderRegistry registry, FuelConfig fuelConfig) {
+        long elapsed = tickHeat(registry, fuelConfig);
+        if (elapsed > 0) {
+            tickSmelting(elapsed, registry);
+        }
+    }
+
+    /**
+     * Advances fuel, bellows and temperature.
+     * @return milliseconds of smelting due this tick, or 0 if smelting can't run
+     */
+    public long tickHeat(ItemProviderRegistry registry, FuelConfig fuelConfig) {
         long now = System.currentTimeMillis();
         long elapsed = now - lastTickTime;
 
         // Skip if elapsed time is too small
-        if (elapsed < MIN_TICK_INTERVAL_MS) return;
+        if (elapsed < MIN_TICK_INTERVAL_MS) return 0;
 
         lastTickTime = now;
 
@@ -126,7 +180,7 @@ public class FurnaceInstance {
             // Still need to update temperature (cooling) and bellows decay
             updateBellowsDecay(now);
             updateTemperature();
-            return;
+            return 0;
         }
 
         // Has fuel - normal processing
@@ -135,13 +189,18 @@ public class FurnaceInstance {
         updateTemperature();
 
         // Recipe processing - only if temperature > 0
-        if (currentTemperature > 0) {
-            if (currentRecipe == null) {
-                findMatchingRecipe(registry);
-            }
-            if (currentRecipe != null) {
-                processSmelting(elapsed, registry);
-            }
+        return currentTemperature > 0 ? elapsed : 0;
+    }
+
+    /**
+     * Advances smelting on the calling (main) thread.
+     */
+    public void tickSmelting(long elapsedMs, ItemProviderRegistry registry) {
+        if (currentRecipe == null) {
+            findMatchingRecipe(registry);
+        }
+        if (currentRecipe != null) {
+            processSmelting(elapsedMs, registry);
         }
     }
 
@@ -226,6 +285,7 @@ public class FurnaceInstance {
         }
 
         fuelConsumedCount++;
+        inventoryVersion++;
         markDirty();
     }
 
@@ -294,23 +354,8 @@ public class FurnaceInstance {
             return;
         }
 
-        // Base decay rate from config (default 0.08)
-        double decayRate = type.getBellowsDecayRate();
-
-        // Progressive decay based on inactivity time
-        if (timeSinceBellows > 30000) {
-            // 30+ seconds: rapid cooling (5x)
-            decayRate *= 5.0;
-        } else if (timeSinceBellows > 20000) {
-            // 20-30 seconds: fast cooling (3x)
-            decayRate *= 3.0;
-        } else if (timeSinceBellows > 10000) {
-            // 10-20 seconds: moderate cooling (2x)
-            decayRate *= 2.0;
-        } else if (timeSinceBellows > 6000) {
-            // 6-10 seconds: slight increase (1.5x)
-            decayRate *= 1.5;
-        }
+        // Base decay rate from config (default 0.08), progressive with inactivity
+        double decayRate = type.getBellowsDecayRate() * bellowsDecayMultiplier(timeSinceBellows);
 
         // Without active fuel, decay even faster
         if (!burning || !hasFuelInSlot()) {
@@ -328,10 +373,22 @@ public class FurnaceInstance {
         bellowsBoost = Math.max(0, bellowsBoost - decay);
     }
 
+    /**
+     * Progressive bellows decay multiplier based on inactivity time.
+     */
+    private static double bellowsDecayMultiplier(long timeSinceBellows) {
+        if (timeSinceBellows > 30000) return 5.0;  // 30+ seconds: rapid cooling
+        if (timeSinceBellows > 20000) return 3.0;  // 20-30 seconds: fast cooling
+        if (timeSinceBellows > 10000) return 2.0;  // 10-20 seconds: moderate cooling
+        if (timeSinceBellows > 6000) return 1.5;   // 6-10 seconds: slight increase
+        return 1.0;
+    }
+
     /**
      * Apply bellows to increase temperature.
      */
     public boolean applyBellows(int temperatureBoost) {
+        settle();
         if (!burning) {
             debug("Bellows REJECTED: not burning");
             return false;
@@ -395,14 +452,7 @@ public class FurnaceInstance {
         long timeSinceBellows = now - lastBellowsTime;
 
         // Calculate inactivity cooling multiplier
-        double inactivityMultiplier = 1.0;
-        if (timeSinceBellows > 30000) {
-            inactivityMultiplier = 4.0; // 30+ seconds: very fast cooling
-        } else if (timeSinceBellows > 20000) {
-            inactivityMultiplier = 2.5; // 20-30 seconds: fast cooling
-        } else if (timeSinceBellows > 10000) {
-            inactivityMultiplier = 1.5; // 10-20 seconds: moderate cooling
-        }
+        double inactivityMultiplier = inactivityMultiplier(timeSinceBellows);
 
         // No fuel means no heat source - must cool down
         if (!hasFuelInSlot()) {
@@ -469,6 +519,16 @@ public class FurnaceInstance {
         currentTemperature = clampTemperature(currentTemperature);
     }
 
+    /**
+     * Cooling multiplier applied after the bellows have been idle for a while.
+     */
+    private static double inactivityMultiplier(long timeSinceBellows) {
+        if (timeSinceBellows > 30000) return 4.0; // 30+ seconds: very fast cooling
+        if (timeSinceBellows > 20000) return 2.5; // 20-30 seconds: fast cooling
+        if (timeSinceBellows > 10000) return 1.5; // 10-20 seconds: moderate cooling
+        return 1.0;
+    }
+
     private int calculateTargetTemperature() {
         if (!burning) return 0;
         int target = fuelBaseTemperature + bellowsBoost;
@@ -482,9 +542,18 @@ public class FurnaceInstance {
     // ==================== SMELTING ====================
 
     private void findMatchingRecipe(ItemProviderRegistry registry) {
-        currentRecipe = type.findMatchingRecipe(inputSlots, registry);
-        if (currentRecipe != null) {
-            smeltTimeTotal = currentRecipe.getSmeltTimeMs();
+        // Inputs that matched nothing still match nothing until they change
+        if (isKnownUnmatched()) return;
+
+        currentRecipe = recipeCache != null
+                ? recipeCache.findMatch(type, inputSlots, registry)
+                : type.findMatchingRecipe(inputSlots, registry);
+        if (currentRecipe == null) {
+            recordNoMatch(inventoryVersion, recipeCache != null ? recipeCache.getGeneration() : 0);
+        } else {
+            smeltStateVersion++;
+            batchCount = sizeBatch(currentRecipe, registry);
+            smeltTimeTotal = currentRecipe.getSmeltTimeMs() * batchCount;
             smeltProgress = 0;
             timeOutsideIdealRange = 0;
             timeInsideIdealRange = 0;
@@ -522,27 +591,68 @@ public class FurnaceInstance {
         }
     }
 
+    /**
+     * Whole batches to smelt as one job: as many as the inputs cover and the
+     * output slot can hold. Always 1 unless the type or recipe opts in.
+     */
+    private int sizeBatch(FurnaceRecipe recipe, ItemProviderRegistry registry) {
+        if (!type.isBatchSmelting() && !recipe.isBatchSmelting()) return 1;
+
+        int batches = recipe.countBatches(inputSlots, registry);
+        for (RecipeOutput output : recipe.getOutputs()) {
+            if (output.amount() <= 0) continue;
+            ItemStack template = registry.getItem(output.type(), output.id(), 1);
+            if (template == null) continue;
+
+            int room;
+            if (outputSlot == null || outputSlot.getType().isAir()) {
+                room = template.getMaxStackSize();
+            } else if (outputSlot.isSimilar(template)) {
+                room = outputSlot.getMaxStackSize() - outputSlot.getAmount();
+            } else {
+                continue;
+            }
+            batches = Math.min(batches, room / output.amount());
+        }
+        return Math.max(1, batches);
+    }
+
     private double calculateSmeltingEfficiency() {
-        if (currentRecipe == null) return 0.5;
-        int minIdeal = currentRecipe.getMinIdealTemperature();
-        int maxIdeal = currentRecipe.getMaxIdealTemperature();
+        return smeltingEfficiency(currentRecipe, currentTemperature);
+    }
 
-        if (currentTemperature < minIdeal) {
-            double ratio = (double) currentTemperature / minIdeal;
+    /**
+     * Smelting speed outside the ideal range. Pure, so async workers share it.
+     */
+    static double smeltingEfficiency(FurnaceRecipe recipe, int temperature) {
+        if (recipe == null) return 0.5;
+        int minIdeal = recipe.getMinIdealTemperature();
+        int maxIdeal = recipe.getMaxIdealTemperature();
+
+        if (temperature < minIdeal) {
+            double ratio = (double) temperature / minIdeal;
             return Math.max(0.3, ratio * 0.7);
-        } else if (currentTemperature > maxIdeal) {
+        } else if (temperature > maxIdeal) {
             return 0.75;
         }
         return 1.0;
     }
 
     private boolean shouldProduceGoodOutput() {
-        if (!reachedIdealDuringSmelting) return false;
-        if (timeOutsideIdealRange >= type.getBadOutputThresholdMs()) return false;
+        return isGoodOutput(type, batchCount, reachedIdealDuringSmelting, timeInsideIdealRange, timeOutsideIdealRange);
+    }
 
-        long totalTime = timeInsideIdealRange + timeOutsideIdealRange;
+    /**
+     * The time-outside threshold scales with the batch count, so a batch job
+     * tolerates as much drift per item as single smelts do.
+     */
+    static boolean isGoodOutput(FurnaceType type, int batches, boolean reachedIdeal, long timeInside, long timeOutside) {
+        if (!reachedIdeal) return false;
+        if (timeOutside >= type.getBadOutputThresholdMs() * batches) return false;
+
+        long totalTime = timeInside + timeOutside;
         if (totalTime > 0) {
-            double idealRatio = (double) timeInsideIdealRange / totalTime;
+            double idealRatio = (double) timeInside / totalTime;
             if (idealRatio < type.getMinIdealRatio()) return false;
         }
         return true;
@@ -551,21 +661,26 @@ public class FurnaceInstance {
     public void completeSmelting(boolean success, ItemProviderRegistry registry) {
         if (currentRecipe == null) return;
 
-        debug("Completing smelting: success=" + success);
-        consumeInputs(registry);
+        // Inputs may have been taken out since the batch was sized
+        int batches = batchCount > 1
+                ? Math.max(1, Math.min(batchCount, currentRecipe.countBatches(inputSlots, registry)))
+                : 1;
+
+        debug("Completing smelting: success=" + success + ", batches=" + batches);
+        consumeInputs(batches, registry);
 
         List<RecipeOutput> outputs = success ? currentRecipe.getOutputs() : currentRecipe.getBadOutputs();
         if (outputs == null || outputs.isEmpty()) outputs = currentRecipe.getOutputs();
 
-        giveOutputs(outputs, registry);
+        giveOutputs(outputs, batches, registry);
         resetSmelting();
     }
 
-    private void consumeInputs(ItemProviderRegistry registry) {
+    private void consumeInputs(int batches, ItemProviderRegistry registry) {
         if (currentRecipe == null) return;
 
         for (RecipeInput input : currentRecipe.getInputs()) {
-            int remaining = input.amount();
+            int remaining = input.amount() * batches;
             String inputType = input.type().toLowerCase();
             String inputId = input.id();
 
@@ -585,6 +700,7 @@ public class FurnaceInstance {
                 }
             }
         }
+        inventoryVersion++;
         markDirty();
     }
 
@@ -601,12 +717,12 @@ public class FurnaceInstance {
         }
     }
 
-    private void giveOutputs(List<RecipeOutput> outputs, ItemProviderRegistry registry) {
+    private void giveOutputs(List<RecipeOutput> outputs, int batches, ItemProviderRegistry registry) {
         if (outputs == null || outputs.isEmpty()) return;
 
         for (RecipeOutput output : outputs) {
             if (output.amount() <= 0) continue;
-            ItemStack item = registry.getItem(output.type(), output.id(), output.amount());
+            ItemStack item = registry.getItem(output.type(), output.id(), output.amount() * batches);
             if (item == null) continue;
 
             if (outputSlot == null || outputSlot.getType().isAir()) {
@@ -616,11 +732,14 @@ public class FurnaceInstance {
                 outputSlot.setAmount(newAmount);
             }
         }
+        inventoryVersion++;
         markDirty();
     }
 
     public void resetSmelting() {
+        smeltStateVersion++;
         currentRecipe = null;
+        batchCount = 1;
         smeltProgress = 0;
         smeltTimeTotal = 0;
         timeOutsideIdealRange = 0;
@@ -629,17 +748,648 @@ public class FurnaceInstance {
         markDirty();
     }
 
+    // ==================== ASYNC SMELTING ====================
+
+    /**
+     * Version of the inputs and smelt state; bumped whenever either changes
+     * outside of an async result.
+     */
+    public long getSmeltStateVersion() { return smeltStateVersion; }
+
+    public boolean hasReachedIdealDuringSmelting() { return reachedIdealDuringSmelting; }
+
+    /**
+     * Holds smelting time back while a worker result is still in flight.
+     */
+    public void deferSmelting(long elapsedMs) {
+        deferredSmeltMs += elapsedMs;
+    }
+
+    public long drainDeferredSmelting() {
+        long deferred = deferredSmeltMs;
+        deferredSmeltMs = 0;
+        return deferred;
+    }
+
+    /**
+     * Applies a worker result on the main thread.
+     * @return false if the furnace changed since the snapshot and the result was dropped
+     */
+    public boolean applySmeltingResult(AsyncSmeltingProcessor.SmeltingResult result, ItemProviderRegistry registry) {
+        if (result.stateVersion() != smeltStateVersion) {
+            // Computed against stale inputs - keep the time for the next step
+            deferredSmeltMs += result.elapsedMs();
+            return false;
+        }
+
+        if (result.reset()) {
+            resetSmelting();
+            return true;
+        }
+
+        FurnaceRecipe recipe = result.recipe();
+        if (recipe == null) {
+            recordNoMatch(result.inventoryVersion(), result.recipeGeneration());
+            return true;
+        }
+
+        if (recipe != currentRecipe) {
+            smeltStateVersion++;
+            currentRecipe = recipe;
+            // Sized here - the worker can't read item stacks
+            batchCount = sizeBatch(recipe, registry);
+            smeltTimeTotal = recipe.getSmeltTimeMs() * batchCount;
+            markDirty();
+        }
+        smeltProgress = result.smeltProgress();
+        timeInsideIdealRange = result.timeInsideIdealRange();
+        timeOutsideIdealRange = result.timeOutsideIdealRange();
+        reachedIdealDuringSmelting = result.reachedIdeal();
+
+        if (batchCount > 1) {
+            // The worker only knew the single-batch time for a new recipe
+            if (smeltProgress >= smeltTimeTotal) {
+                completeSmelting(shouldProduceGoodOutput(), registry);
+            }
+        } else if (result.complete()) {
+            completeSmelting(result.success(), registry);
+        }
+        return true;
+    }
+
+    // ==================== LEVEL OF DETAIL ====================
+
+    /**
+     * Tick for a furnace serviced less often than the nominal rate. A gap of
+     * several nominal ticks is integrated with the same per-segment solver as
+     * dormant catch-up; see {@link #fastForward} for how closely that follows
+     * ticking through it.
+     */
+    public void tickCoarse(long tickIntervalMs, ItemProviderRegistry registry, FuelConfig fuelConfig) {
+        long now = System.currentTimeMillis();
+        long from = lastTickTime;
+        if (now - from < tickIntervalMs * 2) {
+            tick(registry, fuelConfig);
+            return;
+        }
+
+        // Smelt time held back for an earlier async step
+        long deferred = drainDeferredSmelting();
+        if (deferred > 0) tickSmelting(deferred, registry);
+
+        lastTickTime = now;
+        // A furnace that slept through it is left asleep unless catching up changed it
+        long before = stateFingerprint();
+        fastForward(from, now, Math.max(MIN_TICK_INTERVAL_MS, tickIntervalMs), registry, fuelConfig);
+        if (stateFingerprint() != before) markDirty();
+    }
+
+    void setLodInterval(int interval) {
+        // Moving closer takes effect on the next tick
+        if (interval < lodInterval) lodCountdown = 0;
+        lodInterval = Math.max(1, interval);
+    }
+
+    /**
+     * Counts down one furnace tick.
+     * @return true if this tick should service the furnace
+     */
+    boolean isLodTickDue() {
+        if (lodCountdown > 0) {
+            lodCountdown--;
+            return false;
+        }
+        lodCountdown = lodInterval - 1;
+        return true;
+    }
+
+    public int getLodInterval() { return lodInterval; }
+
+    /**
+     * Records a tick loop visit.
+     *
+     * @return milliseconds since the previous visit, or -1 if it only just joined the loop
+     */
+    long markServiced(long now) {
+        long gap = lastServicedAt > 0 ? now - lastServicedAt : -1;
+        lastServicedAt = now;
+        return gap;
+    }
+
+    // ==================== DORMANCY ====================
+
+    /**
+     * Freezes the furnace while its chunk is unloaded.
+     * The simulation resumes from the last tick when {@link #wake} is called.
+     */
+    public void markDormant() {
+        dormant = true;
+        lastServicedAt = 0;
+    }
+
+    public boolean isDormant() { return dormant; }
+
+    /**
+     * Wakes a dormant furnace and fast-forwards it to {@code now} in one step.
+     * Burn time, bellows decay, temperature drift and smelt progress are solved
+     * per constant-condition segment instead of being ticked through.
+     */
+    public void wake(long now, long tickIntervalMs, ItemProviderRegistry registry, FuelConfig fuelConfig) {
+        if (!dormant) return;
+        dormant = false;
+
+        long from = lastTickTime;
+        lastTickTime = now;
+        if (now - from < MIN_TICK_INTERVAL_MS) return;
+
+        // A furnace that slept through it is left asleep unless catching up changed it
+        long before = stateFingerprint();
+        fastForward(from, now, Math.max(MIN_TICK_INTERVAL_MS, tickIntervalMs), registry, fuelConfig);
+        if (stateFingerprint() != before) markDirty();
+    }
+
+    /**
+     * Approximates ticking from {@code from} to {@code to}. Fuel burn-out is
+     * exact; bellows decay and heat approach are integrated per segment, using
+     * the segment's midpoint inactivity and its mean ramp temperature for
+     * smelting. The error is bounded by one segment's worth of rounding and
+     * ramp averaging - a few degrees and a small share of smelt progress - so
+     * callers must not rely on exact equivalence with per-tick simulation.
+     */
+    private void fastForward(long from, long to, long tickMs, ItemProviderRegistry registry, FuelConfig fuelConfig) {
+        if (!burning && hasFuelInSlot() && fuelConfig != null) {
+            tryStartBurning(from, fuelConfig);
+        }
+
+        // Fuel is resolved first - it only decides when the heat source ran out
+        int heatedBase = fuelBaseTemperature;
+        long heatUntil = burning ? fastForwardFuel(to, fuelConfig) : from;
+        boolean fuelLeft = hasFuelInSlot();
+
+        // Segment boundaries: burn-out plus every bellows inactivity threshold
+        long[] bounds = {
+                heatUntil, to,
+                lastBellowsTime + 2000, lastBellowsTime + 6000, lastBellowsTime + 10000,
+                lastBellowsTime + 20000, lastBellowsTime + 30000
+        };
+        Arrays.sort(bounds);
+
+        long start = from;
+        for (long bound : bounds) {
+            if (bound <= start || bound > to) continue;
+            long ticks = (bound - from) / tickMs - (start - from) / tickMs;
+            if (ticks > 0) {
+                boolean heated = start < heatUntil;
+                fastForwardSegment(start, bound, ticks, tickMs, heated, heated || fuelLeft, heatedBase, registry);
+            }
+            start = bound;
+        }
+    }
+
+    /**
+     * Consumes every fuel item that burned out before {@code to}.
+     * @return the time the heat source ran out, or {@code to} if still burning
+     */
+    private long fastForwardFuel(long to, FuelConfig fuelConfig) {
+        if (burnEndTime > to) return to;
+
+        long perItemMs = burnDurationMs;
+        if (fuelConfig != null && hasFuelInSlot()) {
+            var fuelData = fuelConfig.getFuelData(fuelSlot);
+            perItemMs = fuelData.map(data -> data.burnTimeTicks() * 50L).orElse(0L);
+        }
+
+        int available = hasFuelInSlot() ? fuelSlot.getAmount() : 0;
+        long expirations = perItemMs > 0 && fuelConfig != null ? 1 + (to - burnEndTime) / perItemMs : 1;
+        int consumed = (int) Math.min(available, expirations);
+        long lastExpiry = burnEndTime + Math.max(0, consumed - 1) * perItemMs;
+
+        if (consumed > 0) {
+            if (consumed >= available) {
+                fuelSlot = null;
+            } else {
+                fuelSlot.setAmount(available - consumed);
+            }
+            fuelConsumedCount += consumed;
+        }
+
+        stopBurning();
+        if (hasFuelInSlot() && fuelConfig != null) {
+            tryStartBurning(lastExpiry, fuelConfig);
+            if (burning) return to;
+        }
+        return lastExpiry;
+    }
+
+    private void fastForwardSegment(long start, long end, long ticks, long tickMs, boolean heated,
+                                    boolean fueled, int heatedBase, ItemProviderRegistry registry) {
+        long timeSinceBellows = (start + end) / 2 - lastBellowsTime;
+        double inactivity = inactivityMultiplier(timeSinceBellows);
+
+        // Bellows decay, including the flat drain applied without fuel
+        double decayRate = 0;
+        int flatDecay = fueled ? 0 : 2;
+        if (timeSinceBellows >= 2000) {
+            decayRate = type.getBellowsDecayRate() * bellowsDecayMultiplier(timeSinceBellows)
+                    * (heated ? 1.0 : 4.0) * 0.5;
+            if (timeSinceBellows > 20000) flatDecay += 5;
+        }
+        boolean hadBellows = bellowsBoost > 0;
+        bellowsBoost = (int) Math.round(decayBellows(bellowsBoost, ticks, decayRate, flatDecay));
+
+        // Temperature drift towards the segment's target
+        int startTemp = currentTemperature;
+        long rampTicks;
+        if (heated) {
+            int target = Math.min(heatedBase + bellowsBoost, type.getMaxTemperature());
+            if (currentTemperature < target) {
+                rampTicks = heatTowards(target, ticks);
+            } else {
+                int coolRate = Math.max(1, (int) (type.getCoolingRate() * type.getCoolingMultiplier() * inactivity));
+                rampTicks = coolTowards(target, coolRate, ticks);
+            }
+        } else if (!fueled) {
+            rampTicks = coolTowards(0, Math.max(2, (int) (type.getCoolingRate() * 1.5 * inactivity)), ticks);
+        } else {
+            double rate = hadBellows ? 0.5 : 1.0;
+            rampTicks = coolTowards(0, Math.max(1, (int) (type.getCoolingRate() * rate * inactivity)), ticks);
+        }
+        currentTemperature = clampTemperature(currentTemperature);
+
+        // Smelting only runs while fuel is present: ramp at its mean, then the plateau
+        if (fueled) {
+            long segmentMs = ticks * tickMs;
+            long rampMs = Math.min(segmentMs, rampTicks * tickMs);
+            fastForwardSmelting(rampMs, (startTemp + currentTemperature) / 2, registry);
+            fastForwardSmelting(segmentMs - rampMs, currentTemperature, registry);
+        }
+    }
+
+    /**
+     * Closed form of repeated {@link #updateBellowsDecay} steps: proportional decay
+     * until it hits the 2-degree floor, then linear.
+     */
+    private static double decayBellows(double boost, long ticks, double rate, int flat) {
+        if (boost <= 0 || ticks <= 0) return Math.max(0, boost);
+
+        if (rate > 0 && boost * rate > 2) {
+            double keep = 1.0 - Math.min(rate, 1.0);
+            if (keep <= 0) return 0;
+
+            long geometricTicks = (long) Math.ceil(Math.log(2.0 / (boost * rate)) / Math.log(keep));
+            geometricTicks = Math.min(ticks, Math.max(1, geometricTicks));
+
+            double offset = flat / rate;
+            boost = (boost + offset) * Math.pow(keep, geometricTicks) - offset;
+            ticks -= geometricTicks;
+            if (boost <= 0) return 0;
+        }
+
+        double perTick = (rate > 0 ? 2 : 0) + flat;
+        return Math.max(0, boost - perTick * ticks);
+    }
+
+    /**
+     * Heats towards the target using the same distance bands as {@link #updateTemperature}.
+     * @return ticks spent before the target was reached
+     */
+    private long heatTowards(int target, long ticks) {
+        int maxTemp = type.getMaxTemperature();
+        if (maxTemp <= 0) return 0;
+
+        double baseRate = type.getTemperatureChange() * type.getHeatingMultiplier() * maxTemp / 500.0;
+        int cap = Math.max(1, maxTemp / 30);
+        long used = 0;
+
+        while (used < ticks && currentTemperature < target) {
+            double diffPercent = (double) (target - currentTemperature) / maxTemp;
+            double scaleFactor;
+            double bandFloor;
+            if (diffPercent > 0.3) { scaleFactor = 1.0; bandFloor = 0.3; }
+            else if (diffPercent > 0.2) { scaleFactor = 0.75; bandFloor = 0.2; }
+            else if (diffPercent > 0.1) { scaleFactor = 0.6; bandFloor = 0.1; }
+            else { scaleFactor = 0.5; bandFloor = 0; }
+
+            int heatRate = Math.min(cap, Math.max(1, (int) (baseRate * scaleFactor)));
+            int bandEnd = target - (int) (bandFloor * maxTemp);
+            long needed = Math.max(1, (long) Math.ceil((double) (bandEnd - currentTemperature) / heatRate));
+            long step = Math.min(ticks - used, needed);
+
+            currentTemperature = (int) Math.min(target, currentTemperature + heatRate * step);
+            used += step;
+        }
+        return used;
+    }
+
+    /**
+     * @return ticks spent before the floor was reached
+     */
+    private long coolTowards(int floor, int coolRate, long ticks) {
+        if (currentTemperature <= floor) return 0;
+        long needed = (long) Math.ceil((double) (currentTemperature - floor) / coolRate);
+        long used = Math.min(ticks, needed);
+        currentTemperature = (int) Math.max(floor, currentTemperature - coolRate * used);
+        return used;
+    }
+
+    /**
+     * Advances smelting for a stretch of constant temperature, completing as
+     * many batches as the inputs allow.
+     */
+    private void fastForwardSmelting(long durationMs, int temperature, ItemProviderRegistry registry) {
+        if (durationMs <= 0 || temperature <= 0) return;
+
+        int actualTemperature = currentTemperature;
+        currentTemperature = temperature;
+
+        while (durationMs > 0) {
+            if (currentRecipe == null) findMatchingRecipe(registry);
+            if (currentRecipe == null) break;
+
+            if (!currentRecipe.matchesInputs(inputSlots, registry)) {
+                resetSmelting();
+                break;
+            }
+            if (temperature < currentRecipe.getMinTemperature() || smeltTimeTotal <= 0) break;
+
+            boolean isIdeal = currentRecipe.isIdealTemperature(temperature);
+            double efficiency = isIdeal ? 1.0 : calculateSmeltingEfficiency();
+            long needed = (long) Math.ceil((smeltTimeTotal - smeltProgress) / efficiency);
+            long used = Math.min(durationMs, Math.max(1, needed));
+
+            if (isIdeal) {
+                timeInsideIdealRange += used;
+                timeOutsideIdealRange = Math.max(0, timeOutsideIdealRange - (used / 2));
+                reachedIdealDuringSmelting = true;
+                smeltProgress += used;
+            } else {
+                timeOutsideIdealRange += used;
+                smeltProgress += (long) (used * efficiency);
+            }
+            durationMs -= used;
+
+            if (smeltProgress >= smeltTimeTotal) {
+                completeSmelting(shouldProduceGoodOutput(), registry);
+            }
+        }
+
+        currentTemperature = actualTemperature;
+    }
+
     // ==================== STATE ====================
 
-    public void markDirty() { this.dirty = true; }
+    /**
+     * Every change from outside the tick loop marks the furnace dirty,
+     * so this is also where a sleeping furnace wakes up.
+     */
+    public void markDirty() {
+        this.dirty = true;
+        if (sleeping) {
+            wakeUp();
+        } else if (parked) {
+            // Keep lastTickTime - the next tick catches up the parked time
+            parked = false;
+            if (wakeListener != null) wakeListener.accept(this);
+        }
+    }
+
     public boolean isDirty() { return dirty; }
     public void clearDirty() { this.dirty = false; }
 
+    /**
+     * True if anything a snapshot holds changed since the last {@link #markSaved()}.
+     * Heat and smelting progress move without marking dirty, so they are
+     * compared by fingerprint.
+     */
+    public boolean hasUnsavedChanges() {
+        return dirty || stateFingerprint() != savedFingerprint;
+    }
+
+    public void markSaved() {
+        dirty = false;
+        savedFingerprint = stateFingerprint();
+    }
+
+    /**
+     * Mixes every persistent field except the snapshot time; items are
+     * covered by the inventory version.
+     */
+    private long stateFingerprint() {
+        long h = mix(0, inventoryVersion);
+        h = mix(h, currentTemperature);
+        h = mix(h, bellowsBoost);
+        h = mix(h, lastBellowsTime);
+        h = mix(h, burning ? 1 : 0);
+        h = mix(h, burnEndTime);
+        h = mix(h, fuelConsumedCount);
+        h = mix(h, currentRecipe != null ? currentRecipe.getId().hashCode() : 0);
+        h = mix(h, smeltProgress);
+        h = mix(h, smeltTimeTotal);
+        h = mix(h, timeInsideIdealRange);
+        h = mix(h, timeOutsideIdealRange);
+        return mix(h, reachedIdealDuringSmelting ? 1 : 0);
+    }
+
+    private static long mix(long h, long value) {
+        h = (h ^ value) * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+
+    // ==================== SLEEP ====================
+
+    /**
+     * True when a tick can't change anything: no heat, no fuel, no bellows,
+     * no recipe and nothing to smelt.
+     */
+    public boolean isIdle() {
+        if (burning || currentTemperature > 0 || bellowsBoost > 0) return false;
+        if (currentRecipe != null || deferredSmeltMs > 0 || hasFuelInSlot()) return false;
+
+        for (ItemStack input : inputSlots) {
+            if (input != null && !input.getType().isAir()) return false;
+        }
+        return true;
+    }
+
+    public void sleep() {
+        sleeping = true;
+        lastServicedAt = 0;
+    }
+
+    public boolean isSleeping() { return sleeping; }
+
+    void setWakeListener(Consumer<FurnaceInstance> listener) {
+        this.wakeListener = listener;
+    }
+
+    private void wakeUp() {
+        sleeping = false;
+        // Nothing happened while asleep - don't replay the gap
+        lastTickTime = System.currentTimeMillis();
+        if (wakeListener != null) wakeListener.accept(this);
+    }
+
+    // ==================== EVENT PREDICTION ====================
+
+    /**
+     * Predicts the next observable change of a steady furnace: burn-out,
+     * smelt completion or the bad-output threshold. Steady means the heat is
+     * settled (at target while burning, cold otherwise) with no bellows boost,
+     * so until that instant every tick is a linear step and one catch-up tick
+     * gives the same result.
+     *
+     * @return absolute time of the next event, {@link Long#MAX_VALUE} if
+     *         nothing will happen, or -1 if the furnace is not steady
+     */
+    public long predictNextEvent(long now) {
+        if (bellowsBoost > 0 || deferredSmeltMs > 0) return -1;
+
+        if (!burning) {
+            // Fuel in the slot would try to ignite each tick; warm furnaces are cooling
+            if (hasFuelInSlot() || currentTemperature > 0) return -1;
+            return Long.MAX_VALUE;
+        }
+
+        if (!hasFuelInSlot() || currentTemperature != calculateTargetTemperature()) return -1;
+
+        long next = burnEndTime;
+        if (currentRecipe == null || currentTemperature < currentRecipe.getMinTemperature()) {
+            return next;
+        }
+
+        long remaining = smeltTimeTotal - smeltProgress;
+        if (currentRecipe.isIdealTemperature(currentTemperature)) {
+            next = Math.min(next, now + remaining);
+        } else {
+            double efficiency = calculateSmeltingEfficiency();
+            next = Math.min(next, now + (long) Math.ceil(remaining / efficiency));
+
+            long threshold = getBadOutputThresholdMs();
+            if (timeOutsideIdealRange < threshold) {
+                next = Math.min(next, now + (threshold - timeOutsideIdealRange));
+            }
+        }
+        return next;
+    }
+
+    void park() {
+        parked = true;
+        lastServicedAt = 0;
+    }
+
+    void unpark() {
+        parked = false;
+    }
+
+    public boolean isParked() { return parked; }
+
+    void setSettleHandler(Consumer<FurnaceInstance> handler) {
+        this.settleHandler = handler;
+    }
+
+    /**
+     * Brings a parked furnace's continuous state (progress, time in range) up
+     * to now. Called before anything reads or changes it; no-op otherwise.
+     */
+    public void settle() {
+        if (parked && settleHandler != null) {
+            settleHandler.accept(this);
+        }
+    }
+
+    // ==================== PERSISTENCE ====================
+
+    /**
+     * Captures the full persistent state. Items are cloned.
+     * The snapshot time is the last tick, which for a dormant furnace is when it went to sleep.
+     */
+    public FurnaceSnapshot snapshot() {
+        ItemStack[] inputs = new ItemStack[inputSlots.length];
+        for (int i = 0; i < inputSlots.length; i++) {
+            inputs[i] = inputSlots[i] != null ? inputSlots[i].clone() : null;
+        }
+
+        return new FurnaceSnapshot(
+                location.getWorld().getUID(), blockPos, type.getId(), lastTickTime,
+                currentTemperature, bellowsBoost, lastBellowsTime,
+                burning, fuelMaxTemperature, fuelBaseTemperature,
+                burnStartTime, burnEndTime, burnDurationMs, fuelConsumedCount, currentFuelType,
+                currentRecipe != null ? currentRecipe.getId() : null,
+                smeltProgress, smeltTimeTotal, timeInsideIdealRange, timeOutsideIdealRange,
+                reachedIdealDuringSmelting,
+                inputs,
+                fuelSlot != null ? fuelSlot.clone() : null,
+                outputSlot != null ? outputSlot.clone() : null
+        );
+    }
+
+    /**
+     * Restores persisted state and leaves the furnace dormant until its chunk wakes it.
+     *
+     * Timestamps are shifted past the server downtime since the snapshot, so
+     * the furnace resumes where it stopped; time the server kept running
+     * (region unloaded) is left for waking to fast-forward.
+     *
+     * @param offline server downtime since the snapshot was taken, in milliseconds
+     */
+    public void restore(FurnaceSnapshot snapshot, long offline) {
+        offline = Math.max(0, offline);
+        inventoryVersion++;
+
+        currentTemperature = clampTemperature(snapshot.temperature());
+        bellowsBoost = snapshot.bellowsBoost();
+        lastBellowsTime = snapshot.lastBellowsTime() > 0 ? snapshot.lastBellowsTime() + offline : 0;
+
+        burning = snapshot.burning();
+        fuelMaxTemperature = snapshot.fuelMaxTemperature();
+        fuelBaseTemperature = snapshot.fuelBaseTemperature();
+        burnStartTime = snapshot.burning() ? snapshot.burnStartTime() + offline : 0;
+        burnEndTime = snapshot.burning() ? snapshot.burnEndTime() + offline : 0;
+        burnDurationMs = snapshot.burnDurationMs();
+        fuelConsumedCount = snapshot.fuelConsumedCount();
+        currentFuelType = snapshot.currentFuelType();
+
+        currentRecipe = snapshot.recipeId() != null ? type.getRecipe(snapshot.recipeId()).orElse(null) : null;
+        if (currentRecipe != null) {
+            smeltProgress = snapshot.smeltProgress();
+            // The batch count is implied by the stored total
+            batchCount = (int) Math.max(1, snapshot.smeltTimeTotal() / currentRecipe.getSmeltTimeMs());
+            smeltTimeTotal = currentRecipe.getSmeltTimeMs() * batchCount;
+            timeInsideIdealRange = snapshot.timeInsideIdealRange();
+            timeOutsideIdealRange = snapshot.timeOutsideIdealRange();
+            reachedIdealDuringSmelting = snapshot.reachedIdeal();
+        } else {
+            // Recipe was removed from the config - start over
+            batchCount = 1;
+            smeltProgress = 0;
+            smeltTimeTotal = 0;
+            timeInsideIdealRange = 0;
+            timeOutsideIdealRange = 0;
+            reachedIdealDuringSmelting = false;
+        }
+
+        ItemStack[] inputs = snapshot.inputs();
+        inputSlots = new ItemStack[DEFAULT_INPUT_SLOTS];
+        for (int i = 0; i < Math.min(inputs.length, DEFAULT_INPUT_SLOTS); i++) {
+            inputSlots[i] = inputs[i] != null ? inputs[i].clone() : null;
+        }
+        fuelSlot = snapshot.fuel() != null ? snapshot.fuel().clone() : null;
+        outputSlot = snapshot.output() != null ? snapshot.output().clone() : null;
+
+        smeltStateVersion++;
+        lastTickTime = snapshot.savedAt() + offline;
+        dormant = true;
+        markSaved();
+    }
+
     // ==================== GETTERS ====================
 
     public UUID getId() { return id; }
     public FurnaceType getType() { return type; }
     public Location getLocation() { return location.clone(); }
+    public BlockPos getBlockPos() { return blockPos; }
+    public World getWorld() { return location.getWorld(); }
+    public RecipeMatchCache getRecipeCache() { return recipeCache; }
     public int getCurrentTemperature() { return currentTemperature; }
     public int getBellowsBoost() { return bellowsBoost; }
     public int getFuelConsumedCount() { return fuelConsumedCount; }
@@ -666,8 +1416,27 @@ public class FurnaceInstance {
     public ItemStack[] getInputSlots() { return inputSlots; }
     public ItemStack getFuelSlot() { return fuelSlot; }
     public ItemStack getOutputSlot() { return outputSlot; }
+    public long getInventoryVersion() { return inventoryVersion; }
+
+    /**
+     * True if the current inputs are known to match no recipe: nothing changed
+     * the inventory or cleared the recipe cache since the last failed lookup.
+     */
+    public boolean isKnownUnmatched() {
+        return currentRecipe == null && unmatchedVersion == inventoryVersion
+                && (recipeCache == null || unmatchedGeneration == recipeCache.getGeneration());
+    }
+
+    private void recordNoMatch(long version, long generation) {
+        // A lookup against older inputs says nothing about the current ones
+        if (version != inventoryVersion) return;
+        unmatchedVersion = version;
+        unmatchedGeneration = generation;
+    }
     public long getSmeltProgressMs() { return smeltProgress; }
     public long getSmeltTimeTotal() { return smeltTimeTotal; }
+    public int getBatchCount() { return batchCount; }
+    public long getBadOutputThresholdMs() { return type.getBadOutputThresholdMs() * batchCount; }
 
     public int getTargetTemperature() { return calculateTargetTemperature(); }
 
@@ -676,6 +1445,22 @@ public class FurnaceInstance {
         return Math.min(1.0, (double) smeltProgress / smeltTimeTotal);
     }
 
+    /**
+     * Smelt progress as of {@code now}, without ticking. A parked furnace is
+     * steady, so its progress is extrapolated from the last tick; any other
+     * furnace reports what its last tick left.
+     */
+    public double estimateSmeltProgress(long now) {
+        if (!parked || currentRecipe == null || smeltTimeTotal <= 0
+                || currentTemperature < currentRecipe.getMinTemperature()) {
+            return getSmeltProgress();
+        }
+
+        double rate = currentRecipe.isIdealTemperature(currentTemperature) ? 1.0 : calculateSmeltingEfficiency();
+        long progress = smeltProgress + (long) (Math.max(0, now - lastTickTime) * rate);
+        return Math.min(1.0, (double) progress / smeltTimeTotal);
+    }
+
     public double getBurnProgress() {
         if (burnDurationMs <= 0 || !burning) return 0.0;
         long elapsed = System.currentTimeMillis() - burnStartTime;
@@ -742,16 +1527,21 @@ public class FurnaceInstance {
     }
 
     public void setTargetTemperature(int temp) {
+        settle();
         this.currentTemperature = clampTemperature(temp);
         markDirty();
     }
 
     public void addExternalHeat(int amount) {
+        settle();
         this.currentTemperature = clampTemperature(this.currentTemperature + amount);
         markDirty();
     }
 
     public void setInputSlots(ItemStack[] slots) {
+        settle();
+        smeltStateVersion++;
+        inventoryVersion++;
         this.inputSlots = new ItemStack[DEFAULT_INPUT_SLOTS];
         if (slots != null) {
             for (int i = 0; i < Math.min(slots.length, DEFAULT_INPUT_SLOTS); i++) {
@@ -761,9 +1551,23 @@ public class FurnaceInstance {
         markDirty();
     }
 
+    /**
+     * Replaces a single input slot - the write-through path for open GUIs.
+     */
+    public void setInputSlot(int index, ItemStack item) {
+        if (index < 0 || index >= inputSlots.length) return;
+        settle();
+        smeltStateVersion++;
+        inventoryVersion++;
+        inputSlots[index] = item != null ? item.clone() : null;
+        markDirty();
+    }
+
     public void setFuelSlot(ItemStack fuel) {
+        settle();
         ItemStack oldFuel = this.fuelSlot;
         this.fuelSlot = fuel != null ? fuel.clone() : null;
+        inventoryVersion++;
 
         // Debug fuel slot changes
         if (DEBUG) {
@@ -784,7 +1588,9 @@ public class FurnaceInstance {
     }
 
     public void setOutputSlot(ItemStack output) {
+        settle();
         this.outputSlot = output != null ? output.clone() : null;
+        inventoryVersion++;
         markDirty();
     }
 }
\ No newline at end of file
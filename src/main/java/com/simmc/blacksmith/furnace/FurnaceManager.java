@@ -2,14 +2,18 @@ package com.simmc.blacksmith.furnace;
 
 import com.simmc.blacksmith.config.ConfigManager;
 import com.simmc.blacksmith.config.FuelConfig;
+import com.simmc.blacksmith.config.MainConfig;
 import com.simmc.blacksmith.items.ItemProviderRegistry;
 import com.simmc.blacksmith.listeners.FurnaceListener;
+import com.simmc.blacksmith.util.BossBarView;
+import com.simmc.blacksmith.util.TitleCache;
 import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.World;
+import org.bukkit.block.Block;
 import org.bukkit.boss.BarColor;
 import org.bukkit.boss.BarStyle;
-import org.bukkit.boss.BossBar;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
@@ -20,6 +24,7 @@ import org.bukkit.util.RayTraceResult;
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 
@@ -30,13 +35,21 @@ import java.util.logging.Level;
 public class FurnaceManager {
 
     private static final double LOOK_DISTANCE = 5.0;
-    private static final String DATA_FILE = "data/furnaces.yml";
-
-    // Batch size for processing furnaces
-    private static final int FURNACE_BATCH_SIZE = 50;
+    private static final String DATA_FOLDER = "data";
+    private static final String REGION_FOLDER = "furnaces";
+    // Earlier formats, migrated once into the region layout
+    private static final String LEGACY_STORAGE_NAME = "furnaces";
+    private static final String LEGACY_YAML_FILE = "furnaces.yml";
+
+    // Weight of the newest sample in the per-furnace tick cost estimate
+    private static final double TICK_COST_SMOOTHING = 0.1;
+    // How often furnace level-of-detail tiers follow player movement
+    private static final long LOD_REFRESH_MS = 2000;
+    // Max lag is reported over the current and the previous window
+    private static final long LAG_WINDOW_MS = 60_000;
 
     // Temperature status display data
-    private static final String[] STATUS_DISPLAY = {
+    static final String[] STATUS_DISPLAY = {
             "§8❄ Cold",
             "§9⬇ Too Cold",
             "§e↑ Warming Up",
@@ -45,7 +58,7 @@ public class FurnaceManager {
             "§c⚠ Dangerous!"
     };
 
-    private static final String[] STATUS_COLOR = {
+    static final String[] STATUS_COLOR = {
             "§8", "§9", "§e", "§a", "§6", "§c"
     };
 
@@ -62,14 +75,52 @@ public class FurnaceManager {
     private final ConfigManager configManager;
     private final ItemProviderRegistry itemRegistry;
 
+    // Spatial index of all furnaces (main thread only)
+    private final FurnaceIndex furnaces;
+    // Furnaces in loaded chunks - only these are ticked
+    private final Set<FurnaceInstance> loadedFurnaces;
+    // Loaded furnaces that are not asleep - the only ones the tick loop visits
+    private final Set<FurnaceInstance> activeFurnaces;
+    // Steady furnaces parked until their next predicted event (main thread only)
+    private TimingWheel<FurnaceInstance> eventWheel;
+
+    // Round-robin pass over the active furnaces, resumed from the cursor each tick
+    private final List<FurnaceInstance> tickRound;
+    private int tickCursor;
+    private long tickBudgetNanos;
+    private double furnaceTickNanos;
+
+    // Tick budget stats
+    private long deferredCount;
+    private long maxLagMs;
+    private long previousMaxLagMs;
+    private long lagWindowStart;
+    private long budgetOverruns;
+    private long lastTickNanos;
+
+    // Level of detail by distance to the nearest player; near/mid/far counts from the last refresh
+    private long lastLodRefresh;
+    private final int[] lodTierCounts = new int[3];
+    // Refresh in progress: players grouped by world and chunk, a few groups scanned per tick
+    private final List<List<Location>> lodGroups;
+    private int lodGroupCursor;
+    private double lodScanRadius;
+    // Nearest player distance (squared) found so far this refresh, for furnaces near a player
+    private final Map<FurnaceInstance, Double> lodNearest;
+    // Loaded furnaces that may be on a finer interval than their far one
+    private Set<FurnaceInstance> lodDetailed;
+    private Set<FurnaceInstance> lodPreviouslyDetailed;
+
     // ConcurrentHashMap for thread-safe access
-    private final Map<String, FurnaceInstance> furnaces;
     private final Map<UUID, FurnaceGUI> openGUIs;
-    private final Map<UUID, BossBar> playerBossBars;
-    private final Map<UUID, String> playerLookingAt;
+    // The shared GUI of each furnace with at least one viewer
+    private final Map<FurnaceInstance, FurnaceGUI> furnaceGUIs;
+    private final Map<UUID, BossBarView> playerBossBars;
+    private final Map<UUID, BlockPos> playerLookingAt;
+    private final Map<UUID, LookState> lookStates;
 
-    // GUI refresh tasks
-    private final Map<UUID, BukkitTask> guiRefreshTasks;
+    // One refresher for every open furnace GUI
+    private BukkitTask guiRefreshTask;
 
     // Cache fuel config to avoid repeated lookups
     private FuelConfig cachedFuelConfig;
@@ -78,6 +129,28 @@ public class FurnaceManager {
     private BukkitTask tickTask;
     private BukkitTask displayTask;
 
+    // Recipe matches shared by all furnaces, keyed by input fingerprint
+    private final RecipeMatchCache recipeCache;
+    // Boss bar titles by quantized furnace state
+    private final TitleCache<BarTitleKey> barTitles;
+
+    // Region-sharded storage; removals wait here until the next save (main thread only)
+    private final FurnaceRegionStore storage;
+    private final Set<FurnaceStorage.Key> pendingRemovals;
+
+    // Regions with furnaces in memory -> bit per loaded chunk (32x32) in that region
+    private final Map<FurnaceRegionStore.RegionKey, BitSet> activeRegions;
+    // Regions whose stored furnaces are still being read -> the pending read
+    private final Map<FurnaceRegionStore.RegionKey, CompletableFuture<List<FurnaceSnapshot>>> loadingRegions;
+    // When this server run started - the downtime recorded at startup ends here
+    private final long sessionStart;
+
+    // Null unless the shared temperature display replaces boss bars
+    private FurnaceHolograms holograms;
+
+    // Null when async smelting is disabled
+    private AsyncSmeltingProcessor asyncProcessor;
+
     // Reference to listener for refresh task management
     private FurnaceListener furnaceListener;
 
@@ -86,36 +159,120 @@ public class FurnaceManager {
         this.configManager = configManager;
         this.itemRegistry = itemRegistry;
 
-        this.furnaces = new ConcurrentHashMap<>();
+        this.furnaces = new FurnaceIndex();
+        this.loadedFurnaces = ConcurrentHashMap.newKeySet();
+        this.activeFurnaces = ConcurrentHashMap.newKeySet();
+        this.tickRound = new ArrayList<>();
+        this.lodGroups = new ArrayList<>();
+        this.lodNearest = new HashMap<>();
+        this.lodDetailed = new HashSet<>();
+        this.lodPreviouslyDetailed = new HashSet<>();
         this.openGUIs = new ConcurrentHashMap<>();
+        this.furnaceGUIs = new ConcurrentHashMap<>();
         this.playerBossBars = new ConcurrentHashMap<>();
         this.playerLookingAt = new ConcurrentHashMap<>();
-        this.guiRefreshTasks = new ConcurrentHashMap<>();
+        this.lookStates = new ConcurrentHashMap<>();
+        this.recipeCache = new RecipeMatchCache();
+        this.barTitles = new TitleCache<>(BAR_TITLE_CACHE_SIZE);
+        this.storage = new FurnaceRegionStore(
+                new File(new File(plugin.getDataFolder(), DATA_FOLDER), REGION_FOLDER), plugin.getLogger());
+        this.pendingRemovals = new LinkedHashSet<>();
+        this.activeRegions = new HashMap<>();
+        this.loadingRegions = new HashMap<>();
+        this.sessionStart = System.currentTimeMillis();
     }
 
     // ==================== LIFECYCLE ====================
 
     public void startTickTask() {
         int tickRate = configManager.getFurnaceTickRate();
+        eventWheel = new TimingWheel<>(tickRate * 50L, System.currentTimeMillis());
+        configureTickBudget();
         tickTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, tickRate, tickRate);
         displayTask = Bukkit.getScheduler().runTaskTimer(plugin, this::updateDisplays, 5L, 5L);
+        guiRefreshTask = Bukkit.getScheduler().runTaskTimer(plugin, this::refreshOpenGUIs, 20L, 20L);
+        configureAsyncSmelting();
+        configureHolograms();
     }
 
     public void stopTickTask() {
         if (tickTask != null && !tickTask.isCancelled()) tickTask.cancel();
         if (displayTask != null && !displayTask.isCancelled()) displayTask.cancel();
+        if (guiRefreshTask != null && !guiRefreshTask.isCancelled()) guiRefreshTask.cancel();
         tickTask = null;
         displayTask = null;
+        guiRefreshTask = null;
 
-        // Stop all GUI refresh tasks
-        guiRefreshTasks.values().forEach(task -> {
-            if (task != null && !task.isCancelled()) task.cancel();
-        });
-        guiRefreshTasks.clear();
+        // Hand parked furnaces back to the tick loop for the next start
+        for (FurnaceInstance furnace : loadedFurnaces) {
+            if (furnace.isParked()) {
+                furnace.unpark();
+                activeFurnaces.add(furnace);
+            }
+        }
+        eventWheel = null;
+
+        if (asyncProcessor != null) {
+            asyncProcessor.shutdown();
+            asyncProcessor = null;
+        }
 
-        playerBossBars.values().forEach(BossBar::removeAll);
+        if (holograms != null) {
+            holograms.clear();
+            holograms = null;
+        }
+
+        playerBossBars.values().forEach(BossBarView::removeAll);
         playerBossBars.clear();
         playerLookingAt.clear();
+        lookStates.clear();
+    }
+
+    /**
+     * Starts, stops or resizes the async smelting workers to match the config.
+     */
+    private void configureAsyncSmelting() {
+        MainConfig config = configManager.getMainConfig();
+
+        if (asyncProcessor != null) {
+            asyncProcessor.shutdown();
+            asyncProcessor = null;
+        }
+
+        if (config.isAsyncSmeltingEnabled()) {
+            asyncProcessor = new AsyncSmeltingProcessor(plugin,
+                    config.getAsyncSmeltingThreads(), config.getAsyncSmeltingMaxPending());
+        }
+    }
+
+    /**
+     * Applies the configured budget and starts the tick stats over, so they
+     * describe the current settings only.
+     */
+    private void configureTickBudget() {
+        tickBudgetNanos = (long) (configManager.getMainConfig().getFurnaceTickBudgetMs() * 1_000_000);
+
+        deferredCount = 0;
+        maxLagMs = 0;
+        previousMaxLagMs = 0;
+        lagWindowStart = System.currentTimeMillis();
+        budgetOverruns = 0;
+    }
+
+    /**
+     * Switches between per-player boss bars and shared temperature displays.
+     */
+    private void configureHolograms() {
+        MainConfig config = configManager.getMainConfig();
+
+        if (holograms != null) {
+            holograms.clear();
+            holograms = null;
+        }
+
+        if (config.isHologramTemperatureDisplay()) {
+            holograms = new FurnaceHolograms(plugin, config.getTemperatureBarHeight(), config.getTemperatureBarRadius());
+        }
     }
 
     /**
@@ -128,11 +285,329 @@ public class FurnaceManager {
     // ==================== TICK ====================
 
     /**
-     * Main tick method - processes all furnaces.
+     * Main tick method - processes awake furnaces in loaded chunks.
+     * Dormant furnaces are fast-forwarded when their chunk loads again;
+     * cold, empty furnaces sleep until something changes them.
+     *
+     * Furnaces are visited round-robin within a time budget. Whatever doesn't
+     * fit waits for the next tick at the cursor; ticks run on elapsed wall
+     * time, so a deferred furnace catches up exactly.
      */
     private void tick() {
-        // Cache fuel config (refresh every 5 seconds)
+        long start = System.nanoTime();
+        long deadline = start + tickBudgetNanos;
         long now = System.currentTimeMillis();
+        refreshFuelConfig(now);
+
+        // Parked furnaces whose event is due rejoin this tick
+        eventWheel.advance(now, furnace -> {
+            furnace.unpark();
+            if (loadedFurnaces.contains(furnace)) activeFurnaces.add(furnace);
+        });
+
+        // Detail levels are refreshed a few player groups at a time, inside the budget
+        if (lodGroupCursor >= lodGroups.size() && now - lastLodRefresh >= LOD_REFRESH_MS) {
+            lastLodRefresh = now;
+            startLodRefresh();
+        }
+        if (lodGroupCursor < lodGroups.size()) {
+            stepLodRefresh(deadline);
+        }
+
+        // Early exit if nothing can change
+        if (activeFurnaces.isEmpty() && tickCursor >= tickRound.size()) return;
+
+        // A new round only starts in a later tick than the one that finished the
+        // last, so no furnace is ticked twice in one tick
+        if (tickCursor >= tickRound.size()) {
+            startRound();
+        }
+
+        int serviced = 0;
+        while (tickCursor < tickRound.size()) {
+            FurnaceInstance furnace = tickRound.get(tickCursor);
+            if (!activeFurnaces.contains(furnace) || !furnace.isLodTickDue()) {
+                // Slept, parked or unloaded since the round started, or not due at its detail level
+                tickCursor++;
+                continue;
+            }
+
+            // Stop before a furnace that likely won't fit; one always runs so the cursor moves
+            long clock = System.nanoTime();
+            if (serviced > 0 && clock + (long) furnaceTickNanos > deadline) {
+                deferredCount += countDeferred();
+                break;
+            }
+
+            tickCursor++;
+            serviced++;
+            // Coarse furnaces wait several rounds by design; lag is measured on full-detail ones
+            long gap = furnace.markServiced(now);
+            if (gap >= 0 && furnace.getLodInterval() == 1) maxLagMs = Math.max(maxLagMs, gap);
+            tickFurnace(furnace, now);
+
+            long cost = System.nanoTime() - clock;
+            furnaceTickNanos += (cost - furnaceTickNanos) * TICK_COST_SMOOTHING;
+        }
+
+        if (tickCursor >= tickRound.size()) {
+            // Round finished - drop references until the next one starts
+            tickRound.clear();
+            tickCursor = 0;
+        }
+
+        lastTickNanos = System.nanoTime() - start;
+        if (lastTickNanos > tickBudgetNanos) budgetOverruns++;
+
+        if (now - lagWindowStart >= LAG_WINDOW_MS) {
+            previousMaxLagMs = maxLagMs;
+            maxLagMs = 0;
+            lagWindowStart = now;
+        }
+    }
+
+    /**
+     * Awake furnaces left in the round; entries that slept, parked or
+     * unloaded since the round started don't count.
+     */
+    private int countDeferred() {
+        int count = 0;
+        for (int i = tickCursor; i < tickRound.size(); i++) {
+            if (activeFurnaces.contains(tickRound.get(i))) count++;
+        }
+        return count;
+    }
+
+    private void startRound() {
+        tickRound.clear();
+        tickRound.addAll(activeFurnaces);
+        tickCursor = 0;
+    }
+
+    private void tickFurnace(FurnaceInstance furnace, long now) {
+        try {
+            boolean pending = asyncProcessor != null && asyncProcessor.hasPendingTask(furnace.getId());
+
+            if (furnace.getLodInterval() > 1) {
+                // Coarse steps smelt on the main thread - wait out an in-flight worker result
+                if (pending) return;
+                furnace.tickCoarse(eventWheel.getTickMs(), itemRegistry, cachedFuelConfig);
+            } else if (asyncProcessor != null) {
+                tickAsync(furnace);
+                pending = asyncProcessor.hasPendingTask(furnace.getId());
+            } else {
+                furnace.tick(itemRegistry, cachedFuelConfig);
+            }
+
+            if (pending) return;
+
+            if (furnace.isIdle()) {
+                furnace.sleep();
+                activeFurnaces.remove(furnace);
+            } else {
+                tryPark(furnace, now);
+            }
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "Error ticking furnace at " + furnace.getLocation(), e);
+        }
+    }
+
+    /**
+     * Snapshots online players grouped by world and chunk. Each group is
+     * scanned once for the furnaces within reach of its players, so cost
+     * follows the furnaces near players, not furnaces times players.
+     */
+    private void startLodRefresh() {
+        lodGroups.clear();
+        lodGroupCursor = 0;
+        lodNearest.clear();
+
+        // Beyond every type's far distance the far interval applies anyway
+        lodScanRadius = 0;
+        for (FurnaceType type : configManager.getFurnaceConfig().getAllTypes()) {
+            lodScanRadius = Math.max(lodScanRadius, type.getLodFarDistance());
+        }
+
+        Map<UUID, Map<Long, List<Location>>> byChunk = new HashMap<>();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            Location loc = player.getLocation();
+            byChunk.computeIfAbsent(player.getWorld().getUID(), k -> new HashMap<>())
+                    .computeIfAbsent(BlockPos.chunkKey(loc.getBlockX() >> 4, loc.getBlockZ() >> 4), k -> new ArrayList<>())
+                    .add(loc);
+        }
+        byChunk.values().forEach(chunks -> lodGroups.addAll(chunks.values()));
+
+        // Furnaces loaded from here on keep their interval until the next refresh
+        Set<FurnaceInstance> spare = lodPreviouslyDetailed;
+        lodPreviouslyDetailed = lodDetailed;
+        lodDetailed = spare;
+
+        if (lodGroups.isEmpty()) finishLodRefresh();
+    }
+
+    /**
+     * Scans player groups until the deadline; at least one per call so the
+     * refresh always finishes.
+     */
+    private void stepLodRefresh(long deadline) {
+        do {
+            scanLodGroup(lodGroups.get(lodGroupCursor++));
+        } while (lodGroupCursor < lodGroups.size() && System.nanoTime() < deadline);
+
+        if (lodGroupCursor >= lodGroups.size()) {
+            finishLodRefresh();
+        }
+    }
+
+    private void scanLodGroup(List<Location> group) {
+        Location first = group.get(0);
+        World world = first.getWorld();
+        if (world == null) return;
+
+        int chunkRadius = (int) Math.ceil(lodScanRadius / 16.0);
+        int centerX = first.getBlockX() >> 4;
+        int centerZ = first.getBlockZ() >> 4;
+
+        for (int cx = centerX - chunkRadius; cx <= centerX + chunkRadius; cx++) {
+            for (int cz = centerZ - chunkRadius; cz <= centerZ + chunkRadius; cz++) {
+                for (FurnaceInstance furnace : furnaces.getChunk(world, cx, cz)) {
+                    if (!loadedFurnaces.contains(furnace)) continue;
+
+                    BlockPos pos = furnace.getBlockPos();
+                    double nearest = lodNearest.getOrDefault(furnace, Double.MAX_VALUE);
+                    for (Location loc : group) {
+                        double dx = loc.getX() - pos.x() - 0.5;
+                        double dy = loc.getY() - pos.y() - 0.5;
+                        double dz = loc.getZ() - pos.z() - 0.5;
+                        nearest = Math.min(nearest, dx * dx + dy * dy + dz * dz);
+                    }
+                    lodNearest.put(furnace, nearest);
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies the intervals found and drops every other furnace that was on
+     * a finer interval to its far one.
+     */
+    private void finishLodRefresh() {
+        lodTierCounts[0] = 0;
+        lodTierCounts[1] = 0;
+
+        for (Map.Entry<FurnaceInstance, Double> entry : lodNearest.entrySet()) {
+            FurnaceInstance furnace = entry.getKey();
+            if (!loadedFurnaces.contains(furnace)) continue;
+
+            FurnaceType type = furnace.getType();
+            int interval = type.getLodInterval(entry.getValue());
+            furnace.setLodInterval(interval);
+            if (interval < type.getLodFarInterval()) lodDetailed.add(furnace);
+            if (interval == 1) {
+                lodTierCounts[0]++;
+            } else if (interval <= type.getLodMidInterval()) {
+                lodTierCounts[1]++;
+            }
+        }
+
+        for (FurnaceInstance furnace : lodPreviouslyDetailed) {
+            if (lodNearest.containsKey(furnace) || lodDetailed.contains(furnace)) continue;
+            if (loadedFurnaces.contains(furnace)) {
+                furnace.setLodInterval(furnace.getType().getLodFarInterval());
+            }
+        }
+        lodTierCounts[2] = Math.max(0, loadedFurnaces.size() - lodTierCounts[0] - lodTierCounts[1]);
+
+        lodPreviouslyDetailed.clear();
+        lodNearest.clear();
+        lodGroups.clear();
+        lodGroupCursor = 0;
+    }
+
+    /**
+     * Parks a steady furnace until its next predicted event. Parked furnaces
+     * are caught up in one step when the event is due or something reads or
+     * changes them; events closer than two ticks aren't worth parking for.
+     */
+    private void tryPark(FurnaceInstance furnace, long now) {
+        long next = furnace.predictNextEvent(now);
+        if (next < 0 || next - now < eventWheel.getTickMs() * 2) return;
+
+        activeFurnaces.remove(furnace);
+        furnace.park();
+        if (next != Long.MAX_VALUE) {
+            eventWheel.schedule(furnace, next);
+        }
+    }
+
+    /**
+     * Catches a parked furnace up to now on the main thread.
+     */
+    private void settleFurnace(FurnaceInstance furnace) {
+        furnace.tick(itemRegistry, cachedFuelConfig);
+    }
+
+    /**
+     * Called when a sleeping furnace is changed (GUI, bellows, heat tool, fuel).
+     */
+    private void onFurnaceWake(FurnaceInstance furnace) {
+        if (eventWheel != null) eventWheel.cancel(furnace);
+        if (loadedFurnaces.contains(furnace)) {
+            activeFurnaces.add(furnace);
+        }
+    }
+
+    private void markLoaded(FurnaceInstance furnace) {
+        loadedFurnaces.add(furnace);
+        lodDetailed.add(furnace);
+        if (!furnace.isSleeping()) {
+            activeFurnaces.add(furnace);
+        }
+    }
+
+    private void markUnloaded(FurnaceInstance furnace) {
+        loadedFurnaces.remove(furnace);
+        lodDetailed.remove(furnace);
+        activeFurnaces.remove(furnace);
+        if (furnace.isParked()) {
+            // Dormant catch-up on wake covers the parked time
+            furnace.unpark();
+            if (eventWheel != null) eventWheel.cancel(furnace);
+        }
+    }
+
+    /**
+     * Ticks heat and fuel on the main thread and hands smelting to the workers.
+     * Falls back to main-thread smelting when the workers are saturated.
+     */
+    private void tickAsync(FurnaceInstance furnace) {
+        long elapsed = furnace.tickHeat(itemRegistry, cachedFuelConfig);
+
+        if (asyncProcessor.hasPendingTask(furnace.getId())) {
+            furnace.deferSmelting(elapsed);
+            return;
+        }
+
+        if (elapsed <= 0) return;
+        // Nothing to smelt and nothing new to match - not worth a worker round trip
+        if (furnace.isKnownUnmatched()) return;
+        long due = elapsed + furnace.drainDeferredSmelting();
+
+        boolean submitted = asyncProcessor.processAsync(furnace, due, itemRegistry, result -> {
+            if (!furnace.applySmeltingResult(result, itemRegistry)) {
+                asyncProcessor.recordStale();
+            }
+        });
+
+        if (!submitted) {
+            furnace.tickSmelting(due, itemRegistry);
+        }
+    }
+
+    /**
+     * Caches the fuel config (refresh every 5 seconds).
+     */
+    private void refreshFuelConfig(long now) {
         if (cachedFuelConfig == null || (now - lastFuelConfigUpdate) > 5000) {
             cachedFuelConfig = configManager.getFuelConfig();
             if (cachedFuelConfig != null) {
@@ -140,46 +615,223 @@ public class FurnaceManager {
             }
             lastFuelConfigUpdate = now;
         }
+    }
 
-        // Early exit if no furnaces
-        if (furnaces.isEmpty()) return;
+    // ==================== CHUNKS ====================
 
-        // Process all furnaces
-        for (FurnaceInstance furnace : furnaces.values()) {
-            try {
-                furnace.tick(itemRegistry, cachedFuelConfig);
-            } catch (Exception e) {
-                plugin.getLogger().log(Level.WARNING, "Error ticking furnace at " + furnace.getLocation(), e);
+    /**
+     * Puts all furnaces in an unloading chunk to sleep, and unloads the
+     * region's furnaces once its last loaded chunk is gone.
+     */
+    public void handleChunkUnload(Chunk chunk) {
+        for (FurnaceInstance furnace : getFurnacesInChunk(chunk)) {
+            furnace.markDormant();
+            markUnloaded(furnace);
+        }
+
+        World world = chunk.getWorld();
+        FurnaceRegionStore.RegionKey region =
+                FurnaceRegionStore.RegionKey.ofChunk(world.getUID(), chunk.getX(), chunk.getZ());
+        BitSet chunks = activeRegions.get(region);
+        if (chunks == null) return;
+
+        chunks.clear(chunkBit(chunk.getX(), chunk.getZ()));
+        if (chunks.isEmpty()) {
+            unloadRegion(world, region);
+        }
+    }
+
+    /**
+     * Starts loading the chunk's region from storage if needed, then wakes all
+     * furnaces in the chunk, fast-forwarding the time they slept. Furnaces of
+     * a region still being read wake when the read completes.
+     */
+    public void handleChunkLoad(Chunk chunk) {
+        World world = chunk.getWorld();
+        FurnaceRegionStore.RegionKey region =
+                FurnaceRegionStore.RegionKey.ofChunk(world.getUID(), chunk.getX(), chunk.getZ());
+
+        BitSet chunks = activeRegions.get(region);
+        if (chunks == null) {
+            chunks = new BitSet(1024);
+            activeRegions.put(region, chunks);
+            loadRegion(world, region);
+        }
+        chunks.set(chunkBit(chunk.getX(), chunk.getZ()));
+
+        List<FurnaceInstance> inChunk = getFurnacesInChunk(chunk);
+        if (inChunk.isEmpty()) return;
+
+        long now = System.currentTimeMillis();
+        refreshFuelConfig(now);
+        long tickIntervalMs = configManager.getFurnaceTickRate() * 50L;
+
+        for (FurnaceInstance furnace : inChunk) {
+            wakeFurnace(furnace, now, tickIntervalMs);
+        }
+    }
+
+    private void wakeFurnace(FurnaceInstance furnace, long now, long tickIntervalMs) {
+        try {
+            furnace.wake(now, tickIntervalMs, itemRegistry, cachedFuelConfig);
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "Error waking furnace at " + furnace.getLocation(), e);
+        }
+        markLoaded(furnace);
+    }
+
+    /**
+     * Saves and drops every furnace of a world, e.g. when it unloads.
+     */
+    public void handleWorldUnload(World world) {
+        UUID worldId = world.getUID();
+        List<FurnaceRegionStore.RegionKey> regions = new ArrayList<>();
+        for (FurnaceRegionStore.RegionKey region : activeRegions.keySet()) {
+            if (region.worldId().equals(worldId)) regions.add(region);
+        }
+        regions.forEach(region -> unloadRegion(world, region));
+    }
+
+    /**
+     * Reads a region on the I/O thread and attaches its furnaces on the main
+     * thread once the read completes. The main thread never waits on disk.
+     */
+    private void loadRegion(World world, FurnaceRegionStore.RegionKey region) {
+        if (!storage.hasData(region) || loadingRegions.containsKey(region)) return;
+
+        CompletableFuture<List<FurnaceSnapshot>> load = storage.loadAsync(region);
+        loadingRegions.put(region, load);
+
+        load.whenComplete((snapshots, error) -> Bukkit.getScheduler().runTask(plugin, () -> {
+            // Unloaded meanwhile - its next load is queued behind the unload's save
+            if (!loadingRegions.remove(region, load)) return;
+
+            if (error != null) {
+                plugin.getLogger().log(Level.SEVERE, "Failed to load furnaces of region " + region, error);
+                return;
+            }
+            attachRegion(world, snapshots);
+        }));
+    }
+
+    /**
+     * Recreates a loaded region's furnaces and wakes those whose chunk is loaded.
+     */
+    private void attachRegion(World world, List<FurnaceSnapshot> snapshots) {
+        long now = System.currentTimeMillis();
+        refreshFuelConfig(now);
+        long tickIntervalMs = configManager.getFurnaceTickRate() * 50L;
+
+        for (FurnaceSnapshot snapshot : snapshots) {
+            BlockPos pos = snapshot.pos();
+            // A furnace created while the region was unloaded or loading is newer than the stored one
+            if (furnaces.get(world, pos.x(), pos.y(), pos.z()) != null) continue;
+
+            FurnaceInstance furnace = createFurnace(snapshot.typeId(), new Location(world, pos.x(), pos.y(), pos.z()));
+            if (furnace == null) continue;
+
+            furnace.restore(snapshot, storage.getDowntimeSince(snapshot.savedAt()));
+            if (world.isChunkLoaded(pos.x() >> 4, pos.z() >> 4)) {
+                wakeFurnace(furnace, now, tickIntervalMs);
             }
         }
     }
 
+    private void unloadRegion(World world, FurnaceRegionStore.RegionKey region) {
+        activeRegions.remove(region);
+        loadingRegions.remove(region);
+
+        List<FurnaceInstance> inRegion = new ArrayList<>();
+        int baseX = region.x() << 5;
+        int baseZ = region.z() << 5;
+        for (int dx = 0; dx < 32; dx++) {
+            for (int dz = 0; dz < 32; dz++) {
+                inRegion.addAll(furnaces.getChunk(world, baseX + dx, baseZ + dz));
+            }
+        }
+
+        // Anyone still viewing one of these furnaces gets it written back first
+        for (Map.Entry<UUID, FurnaceGUI> entry : new ArrayList<>(openGUIs.entrySet())) {
+            if (inRegion.contains(entry.getValue().getFurnace())) {
+                Player viewer = Bukkit.getPlayer(entry.getKey());
+                if (viewer != null) viewer.closeInventory();
+                entry.getValue().saveItemsToFurnace();
+            }
+        }
+        inRegion.forEach(furnaceGUIs::remove);
+
+        List<FurnaceSnapshot> changed = snapshotChanged(inRegion);
+        for (FurnaceInstance furnace : inRegion) {
+            BlockPos pos = furnace.getBlockPos();
+            furnaces.remove(world, pos.x(), pos.y(), pos.z());
+            markUnloaded(furnace);
+        }
+
+        storage.save(changed, pendingRemovals);
+        pendingRemovals.clear();
+        storage.close(region);
+    }
+
+    private static int chunkBit(int chunkX, int chunkZ) {
+        return ((chunkX & 31) << 5) | (chunkZ & 31);
+    }
+
+    public List<FurnaceInstance> getFurnacesInChunk(Chunk chunk) {
+        return furnaces.getChunk(chunk.getWorld(), chunk.getX(), chunk.getZ());
+    }
+
     // ==================== DISPLAY ====================
 
+    private static final int BAR_TITLE_CACHE_SIZE = 512;
+
     // Track display update cycle for batch processing
     private int displayUpdateIndex = 0;
     private static final int PLAYERS_PER_TICK = 50;
 
+    // Look-change detection: below these deltas the last raytrace is reused
+    private static final double LOOK_MOVE_THRESHOLD_SQ = 0.05 * 0.05;
+    private static final float LOOK_ANGLE_THRESHOLD = 0.5f;
+    // Raytrace anyway every N cycles so blocks changing in view are noticed
+    private static final int LOOK_REFRESH_CYCLES = 4;
+
     /**
-     * Updates boss bar displays for players in batches.
-     * Processes players per tick to spread load across server ticks.
+     * Updates boss bar displays in two stages: players with no furnace in
+     * raytrace range are culled by a chunk lookup, and the survivors are
+     * raytraced in batches of {@link #PLAYERS_PER_TICK} - only if they moved
+     * or turned since the last cycle.
      */
     private void updateDisplays() {
+        if (holograms != null) {
+            if (!playerBossBars.isEmpty()) {
+                playerBossBars.values().forEach(BossBarView::removeAll);
+                playerBossBars.clear();
+                lookStates.clear();
+            }
+            holograms.update(furnaces);
+            return;
+        }
+
         // Early exit if no furnaces exist
         if (furnaces.isEmpty()) {
             playerBossBars.values().forEach(bar -> bar.setVisible(false));
             return;
         }
 
-        // Get snapshot of online players
-        Player[] players = Bukkit.getOnlinePlayers().toArray(new Player[0]);
-        int totalPlayers = players.length;
+        List<Player> nearFurnaces = new ArrayList<>();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (isNearFurnace(player)) {
+                nearFurnaces.add(player);
+            } else {
+                hideDisplay(player.getUniqueId());
+            }
+        }
 
+        int totalPlayers = nearFurnaces.size();
         if (totalPlayers == 0) return;
 
         // For small player counts, process all at once
         if (totalPlayers <= PLAYERS_PER_TICK) {
-            for (Player player : players) {
+            for (Player player : nearFurnaces) {
                 updatePlayerDisplay(player);
             }
             return;
@@ -190,7 +842,7 @@ public class FurnaceManager {
         int endIndex = Math.min(startIndex + PLAYERS_PER_TICK, totalPlayers);
 
         for (int i = startIndex; i < endIndex; i++) {
-            updatePlayerDisplay(players[i]);
+            updatePlayerDisplay(nearFurnaces.get(i));
         }
 
         // Wrap around if needed
@@ -201,151 +853,237 @@ public class FurnaceManager {
         }
     }
 
+    /**
+     * True if any chunk the player's look ray can reach holds a furnace.
+     */
+    private boolean isNearFurnace(Player player) {
+        Location eye = player.getEyeLocation();
+        int minChunkX = (int) Math.floor(eye.getX() - LOOK_DISTANCE) >> 4;
+        int maxChunkX = (int) Math.floor(eye.getX() + LOOK_DISTANCE) >> 4;
+        int minChunkZ = (int) Math.floor(eye.getZ() - LOOK_DISTANCE) >> 4;
+        int maxChunkZ = (int) Math.floor(eye.getZ() + LOOK_DISTANCE) >> 4;
+        return furnaces.hasFurnaceInChunks(player.getWorld(), minChunkX, minChunkZ, maxChunkX, maxChunkZ);
+    }
+
     private void updatePlayerDisplay(Player player) {
         UUID playerId = player.getUniqueId();
         FurnaceInstance lookingAt = getFurnacePlayerIsLookingAt(player);
 
         if (lookingAt != null) {
-            playerLookingAt.put(playerId, locationToKey(lookingAt.getLocation()));
+            playerLookingAt.put(playerId, lookingAt.getBlockPos());
 
-            BossBar bar = playerBossBars.computeIfAbsent(playerId, k -> {
-                BossBar newBar = Bukkit.createBossBar("", BarColor.WHITE, BarStyle.SEGMENTED_10);
+            BossBarView bar = playerBossBars.computeIfAbsent(playerId, k -> {
+                BossBarView newBar = BossBarView.create("", BarColor.WHITE, BarStyle.SEGMENTED_10);
                 newBar.addPlayer(player);
                 return newBar;
             });
 
+            lookingAt.settle();
             updateBossBar(bar, lookingAt);
             bar.setVisible(true);
         } else {
             playerLookingAt.remove(playerId);
-            BossBar bar = playerBossBars.get(playerId);
+            BossBarView bar = playerBossBars.get(playerId);
             if (bar != null) {
                 bar.setVisible(false);
             }
         }
     }
 
+    private void hideDisplay(UUID playerId) {
+        playerLookingAt.remove(playerId);
+        lookStates.remove(playerId);
+        BossBarView bar = playerBossBars.get(playerId);
+        if (bar != null) {
+            bar.setVisible(false);
+        }
+    }
+
     /**
      * Updates the boss bar with furnace status.
      * Shows recipe-specific ideal temperature range when smelting.
+     * Only fields that changed are sent; the title is reused for identical states.
      */
-    private void updateBossBar(BossBar bar, FurnaceInstance furnace) {
+    private void updateBossBar(BossBarView bar, FurnaceInstance furnace) {
         FurnaceType type = furnace.getType();
         int currentTemp = furnace.getCurrentTemperature();
         int maxTemp = type.getMaxTemperature();
-
         int statusCode = furnace.getTemperatureStatusCode();
 
-        StringBuilder title = new StringBuilder();
-
-        // Status display (shows if temp is LOW/IDEAL/HIGH relative to recipe)
-        title.append(STATUS_DISPLAY[statusCode]);
+        // Burn time display is kept as-is: remaining ms / 20
+        int burnSeconds = furnace.isBurning() ? (int) (furnace.getBurnTimeRemaining() / 20) : -1;
 
-        // Current temperature
-        title.append(" §7| ");
-        title.append(STATUS_COLOR[statusCode]).append(currentTemp).append("°C");
-
-        // Fuel indicator with burn time
-        if (furnace.isBurning()) {
-            long burnRemaining = furnace.getBurnTimeRemaining();
-            int seconds = (int) (burnRemaining / 20);
-            title.append(" §6🔥 §7(").append(seconds).append("s)");
-        } else {
-            title.append(" §8🔥 §c(No Fuel!)");
-        }
-
-        // Recipe-specific display
         FurnaceRecipe recipe = furnace.getCurrentRecipe();
         double progress;
+        BarTitleKey key;
 
         if (recipe != null) {
-            // Show recipe's ideal temperature range
-            String idealRange = furnace.getIdealTemperatureRange();
-            title.append(" §7| §fIdeal: §e").append(idealRange);
-
-            // Show smelting progress with temperature status
             progress = furnace.getSmeltProgress();
-            int percent = (int) (progress * 100);
-
-            title.append(" §7| ");
-
-            String tempStatus = furnace.getRecipeTemperatureStatus();
-            switch (tempStatus) {
-                case "LOW", "COLD" -> {
-                    title.append("§9⬇ Too Cold! ");
-                    title.append("§7").append(percent).append("%");
-                }
-                case "HIGH" -> {
-                    title.append("§6⬆ Too Hot! ");
-                    title.append("§7").append(percent).append("%");
-                }
-                case "DANGEROUS" -> {
-                    title.append("§c⚠ Overheating! ");
-                    title.append("§c").append(percent).append("%");
-                }
-                case "IDEAL" -> {
-                    title.append("§a✓ Smelting: ");
-                    title.append("§a").append(percent).append("%");
-                }
-                default -> {
-                    title.append("§7Smelting: ").append(percent).append("%");
-                }
-            }
 
             // Warning indicator if outside ideal range for too long
             long timeOutside = furnace.getTimeOutsideIdealRange();
-            long threshold = type.getBadOutputThresholdMs();
+            long threshold = furnace.getBadOutputThresholdMs();
+            int warning = timeOutside > threshold * 0.5 ? 2 : timeOutside > threshold * 0.25 ? 1 : 0;
 
-            if (timeOutside > threshold * 0.5) {
-                title.append(" §4⚠");
-            } else if (timeOutside > threshold * 0.25) {
-                title.append(" §c⚠");
-            }
-
-            // Show quality indicator
+            // Quality indicator
             long timeInside = furnace.getTimeInsideIdealRange();
             long totalTime = timeInside + timeOutside;
+            int tier = -1;
             if (totalTime > 1000) {
                 double ratio = (double) timeInside / totalTime;
-                if (ratio >= 0.8) {
-                    title.append(" §a★");
-                } else if (ratio >= 0.6) {
-                    title.append(" §e★");
-                } else if (ratio >= type.getMinIdealRatio()) {
-                    title.append(" §7★");
-                } else {
-                    title.append(" §c✗");
-                }
+                if (ratio >= 0.8) tier = 3;
+                else if (ratio >= 0.6) tier = 2;
+                else if (ratio >= type.getMinIdealRatio()) tier = 1;
+                else tier = 0;
             }
 
+            key = new BarTitleKey(statusCode, currentTemp, burnSeconds, recipe,
+                    furnace.getRecipeTemperatureStatus(), (int) (progress * 100), warning, tier);
         } else {
             // No recipe - show temperature progress toward max
             progress = maxTemp > 0 ? (double) currentTemp / maxTemp : 0;
+            key = new BarTitleKey(statusCode, currentTemp, burnSeconds, null, null, 0, 0, -1);
+        }
+
+        bar.update(barTitles.get(key, FurnaceManager::renderBarTitle), progress, STATUS_BAR_COLOR[statusCode]);
+    }
 
-            if (currentTemp > 0) {
+    private static String renderBarTitle(BarTitleKey key) {
+        StringBuilder title = new StringBuilder();
+
+        // Status display (shows if temp is LOW/IDEAL/HIGH relative to recipe)
+        title.append(STATUS_DISPLAY[key.statusCode()]);
+
+        // Current temperature
+        title.append(" §7| ");
+        title.append(STATUS_COLOR[key.statusCode()]).append(key.temperature()).append("°C");
+
+        // Fuel indicator with burn time
+        if (key.burnSeconds() >= 0) {
+            title.append(" §6🔥 §7(").append(key.burnSeconds()).append("s)");
+        } else {
+            title.append(" §8🔥 §c(No Fuel!)");
+        }
+
+        FurnaceRecipe recipe = key.recipe();
+        if (recipe == null) {
+            if (key.temperature() > 0) {
                 title.append(" §7| §8No recipe loaded");
             } else {
                 title.append(" §7| §8Add fuel and ingredients");
             }
+            return title.toString();
+        }
+
+        // Show recipe's ideal temperature range
+        title.append(" §7| §fIdeal: §e")
+                .append(recipe.getMinIdealTemperature()).append("-").append(recipe.getMaxIdealTemperature()).append("°C");
+
+        // Show smelting progress with temperature status
+        int percent = key.percent();
+        title.append(" §7| ");
+
+        switch (key.recipeStatus()) {
+            case "LOW", "COLD" -> {
+                title.append("§9⬇ Too Cold! ");
+                title.append("§7").append(percent).append("%");
+            }
+            case "HIGH" -> {
+                title.append("§6⬆ Too Hot! ");
+                title.append("§7").append(percent).append("%");
+            }
+            case "DANGEROUS" -> {
+                title.append("§c⚠ Overheating! ");
+                title.append("§c").append(percent).append("%");
+            }
+            case "IDEAL" -> {
+                title.append("§a✓ Smelting: ");
+                title.append("§a").append(percent).append("%");
+            }
+            default -> {
+                title.append("§7Smelting: ").append(percent).append("%");
+            }
         }
 
-        bar.setTitle(title.toString());
-        bar.setProgress(Math.max(0, Math.min(1, progress)));
-        bar.setColor(STATUS_BAR_COLOR[statusCode]);
+        if (key.warning() == 2) {
+            title.append(" §4⚠");
+        } else if (key.warning() == 1) {
+            title.append(" §c⚠");
+        }
+
+        switch (key.tier()) {
+            case 3 -> title.append(" §a★");
+            case 2 -> title.append(" §e★");
+            case 1 -> title.append(" §7★");
+            case 0 -> title.append(" §c✗");
+            default -> { }
+        }
+
+        return title.toString();
     }
 
+    /**
+     * Everything a boss bar title shows. Recipe is compared by identity.
+     * burnSeconds is -1 when not burning; tier is -1 before quality is known.
+     */
+    private record BarTitleKey(int statusCode, int temperature, int burnSeconds, FurnaceRecipe recipe,
+                               String recipeStatus, int percent, int warning, int tier) {}
+
+    /**
+     * Raytraces for the furnace the player is looking at. The hit block is
+     * remembered, and while the player holds still the raytrace is skipped
+     * and only the furnace at that block is looked up again.
+     */
     private FurnaceInstance getFurnacePlayerIsLookingAt(Player player) {
-        RayTraceResult result = player.getWorld().rayTraceBlocks(
-                player.getEyeLocation(),
-                player.getEyeLocation().getDirection(),
-                LOOK_DISTANCE
-        );
+        Location eye = player.getEyeLocation();
+        World world = player.getWorld();
+        LookState state = lookStates.computeIfAbsent(player.getUniqueId(), k -> new LookState());
 
-        if (result == null || result.getHitBlock() == null) {
-            return null;
+        if (state.isStill(world, eye) && ++state.reusedCycles < LOOK_REFRESH_CYCLES) {
+            BlockPos hit = state.hitBlock;
+            return hit != null ? furnaces.get(world, hit.x(), hit.y(), hit.z()) : null;
         }
 
-        return getFurnace(result.getHitBlock().getLocation());
+        RayTraceResult result = world.rayTraceBlocks(eye, eye.getDirection(), LOOK_DISTANCE);
+        Block hitBlock = result != null ? result.getHitBlock() : null;
+
+        state.update(world, eye, hitBlock != null ? new BlockPos(hitBlock.getX(), hitBlock.getY(), hitBlock.getZ()) : null);
+        return hitBlock != null ? getFurnace(hitBlock) : null;
+    }
+
+    /**
+     * Eye position and rotation at a player's last raytrace, and what it hit.
+     */
+    private static final class LookState {
+        private UUID worldId;
+        private double x, y, z;
+        private float yaw, pitch;
+        private BlockPos hitBlock;
+        private int reusedCycles;
+
+        boolean isStill(World world, Location eye) {
+            if (worldId == null || !worldId.equals(world.getUID())) return false;
+
+            double dx = eye.getX() - x;
+            double dy = eye.getY() - y;
+            double dz = eye.getZ() - z;
+            if (dx * dx + dy * dy + dz * dz > LOOK_MOVE_THRESHOLD_SQ) return false;
+
+            float dYaw = Math.abs(eye.getYaw() - yaw) % 360f;
+            if (dYaw > 180f) dYaw = 360f - dYaw;
+            return dYaw <= LOOK_ANGLE_THRESHOLD && Math.abs(eye.getPitch() - pitch) <= LOOK_ANGLE_THRESHOLD;
+        }
+
+        void update(World world, Location eye, BlockPos hit) {
+            worldId = world.getUID();
+            x = eye.getX();
+            y = eye.getY();
+            z = eye.getZ();
+            yaw = eye.getYaw();
+            pitch = eye.getPitch();
+            hitBlock = hit;
+            reusedCycles = 0;
+        }
     }
 
     // ==================== FURNACE CRUD ====================
@@ -358,18 +1096,36 @@ public class FurnaceManager {
             return null;
         }
 
-        String key = locationToKey(location);
-        if (furnaces.containsKey(key)) {
-            return furnaces.get(key);
+        World world = location.getWorld();
+        if (world == null) return null;
+
+        FurnaceInstance existing = getFurnace(location);
+        if (existing != null) {
+            return existing;
         }
 
-        FurnaceInstance instance = new FurnaceInstance(typeOpt.get(), normalizeLocation(location));
-        furnaces.put(key, instance);
+        FurnaceInstance instance = new FurnaceInstance(typeOpt.get(), normalizeLocation(location), recipeCache);
+        instance.setWakeListener(this::onFurnaceWake);
+        instance.setSettleHandler(this::settleFurnace);
+        furnaces.put(world, instance.getBlockPos(), instance);
+        pendingRemovals.remove(FurnaceStorage.Key.of(world.getUID(), instance.getBlockPos()));
+        instance.markDirty();
+
+        if (world.isChunkLoaded(location.getBlockX() >> 4, location.getBlockZ() >> 4)) {
+            markLoaded(instance);
+        } else {
+            instance.markDormant();
+        }
         return instance;
     }
 
     public FurnaceInstance getFurnace(Location location) {
-        return furnaces.get(locationToKey(location));
+        if (location == null) return null;
+        return furnaces.get(location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    public FurnaceInstance getFurnace(Block block) {
+        return furnaces.get(block.getWorld(), block.getX(), block.getY(), block.getZ());
     }
 
     /**
@@ -381,18 +1137,39 @@ public class FurnaceManager {
     }
 
     public void removeFurnace(Location location) {
-        furnaces.remove(locationToKey(location));
+        if (location == null || location.getWorld() == null) return;
+        removeFurnace(location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    /**
+     * @return true if a furnace was removed
+     */
+    public boolean removeFurnace(Block block) {
+        return removeFurnace(block.getWorld(), block.getX(), block.getY(), block.getZ());
+    }
+
+    private boolean removeFurnace(World world, int x, int y, int z) {
+        FurnaceInstance removed = furnaces.remove(world, x, y, z);
+        if (removed == null) return false;
+
+        markUnloaded(removed);
+        pendingRemovals.add(FurnaceStorage.Key.of(world.getUID(), removed.getBlockPos()));
+        return true;
     }
 
     public boolean isFurnace(Location location) {
-        return furnaces.containsKey(locationToKey(location));
+        return getFurnace(location) != null;
+    }
+
+    public boolean isFurnace(Block block) {
+        return getFurnace(block) != null;
     }
 
     // ==================== GUI ====================
 
     /**
      * Opens the furnace GUI for a player.
-     * Starts a refresh task to sync fuel consumption.
+     * Viewers of the same furnace share one live inventory.
      */
     public void openFurnaceGUI(Player player, Location location) {
         FurnaceInstance furnace = getFurnace(location);
@@ -403,61 +1180,51 @@ public class FurnaceManager {
 
         closeGUI(player);
 
-        // Create GUI with fuel config for validation
-        FuelConfig fuelConfig = configManager.getFuelConfig();
-        FurnaceGUI gui = new FurnaceGUI(furnace, configManager.getMessageConfig(), itemRegistry, fuelConfig);
+        // Join the furnace's shared GUI, creating it for the first viewer
+        FurnaceGUI gui = furnaceGUIs.get(furnace);
+        if (gui == null) {
+            FuelConfig fuelConfig = configManager.getFuelConfig();
+            gui = new FurnaceGUI(furnace, configManager.getMessageConfig(), itemRegistry, fuelConfig);
+            furnaceGUIs.put(furnace, gui);
+        } else {
+            gui.syncFromFurnace();
+        }
         gui.open(player);
         openGUIs.put(player.getUniqueId(), gui);
-
-        // Start refresh task to sync fuel consumption
-        startGUIRefreshTask(player.getUniqueId());
     }
 
     /**
      * Closes the furnace GUI for a player.
-     * Saves items and stops refresh task.
+     * Saves items; the shared GUI is released with its last viewer.
      */
     public void closeGUI(Player player) {
         UUID playerId = player.getUniqueId();
 
-        // Stop refresh task
-        stopGUIRefreshTask(playerId);
-
         // Save and remove GUI
         FurnaceGUI gui = openGUIs.remove(playerId);
         if (gui != null) {
             gui.saveItemsToFurnace();
+            gui.removeViewer(playerId);
+            if (!gui.hasViewers()) {
+                furnaceGUIs.remove(gui.getFurnace(), gui);
+            }
         }
     }
 
     /**
-     * Starts a task to refresh GUI fuel display while open.
+     * Shared refresher for every open furnace GUI. Each furnace's GUI is
+     * shared by its viewers, so each furnace is caught up and synced once,
+     * and only when its inventory version moved are changed slots pushed.
      */
-    private void startGUIRefreshTask(UUID playerId) {
-        stopGUIRefreshTask(playerId); // Cancel existing
-
-        BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            FurnaceGUI gui = openGUIs.get(playerId);
-            if (gui == null) {
-                stopGUIRefreshTask(playerId);
-                return;
+    private void refreshOpenGUIs() {
+        for (Map.Entry<FurnaceInstance, FurnaceGUI> entry : furnaceGUIs.entrySet()) {
+            FurnaceInstance furnace = entry.getKey();
+            try {
+                furnace.settle();
+                entry.getValue().syncFromFurnace();
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "Error refreshing furnace GUI at " + furnace.getLocation(), e);
             }
-
-            // Refresh fuel slot display to show consumption
-            gui.refreshFuelSlot();
-
-        }, 20L, 20L); // Every 1 second
-
-        guiRefreshTasks.put(playerId, task);
-    }
-
-    /**
-     * Stops the GUI refresh task for a player.
-     */
-    private void stopGUIRefreshTask(UUID playerId) {
-        BukkitTask task = guiRefreshTasks.remove(playerId);
-        if (task != null && !task.isCancelled()) {
-            task.cancel();
         }
     }
 
@@ -497,96 +1264,173 @@ public class FurnaceManager {
     public void handlePlayerQuit(Player player) {
         UUID playerId = player.getUniqueId();
 
-        // Stop refresh task
-        stopGUIRefreshTask(playerId);
-
         closeGUI(player);
 
-        BossBar bar = playerBossBars.remove(playerId);
+        BossBarView bar = playerBossBars.remove(playerId);
         if (bar != null) {
             bar.removeAll();
         }
         playerLookingAt.remove(playerId);
+        lookStates.remove(playerId);
     }
 
     // ==================== PERSISTENCE ====================
 
+    /**
+     * Snapshots changed and removed furnaces of every world and hands them to
+     * the storage I/O thread. The main thread only copies state; encoding and
+     * disk writes happen off-thread.
+     */
     public void saveAll() {
-        File file = new File(plugin.getDataFolder(), DATA_FILE);
-        file.getParentFile().mkdirs();
-
-        YamlConfiguration config = new YamlConfiguration();
-        int count = 0;
+        storage.save(snapshotChanged(furnaces.values()), pendingRemovals);
+        pendingRemovals.clear();
+    }
 
-        for (FurnaceInstance furnace : furnaces.values()) {
-            Location loc = furnace.getLocation();
-            String path = "furnaces." + count;
+    /**
+     * {@link #saveAll()} for one world, e.g. when that world saves.
+     */
+    public void saveWorld(World world) {
+        UUID worldId = world.getUID();
+        List<FurnaceStorage.Key> removed = new ArrayList<>();
+        Iterator<FurnaceStorage.Key> it = pendingRemovals.iterator();
+        while (it.hasNext()) {
+            FurnaceStorage.Key key = it.next();
+            if (key.worldMost() == worldId.getMostSignificantBits()
+                    && key.worldLeast() == worldId.getLeastSignificantBits()) {
+                removed.add(key);
+                it.remove();
+            }
+        }
 
-            config.set(path + ".type", furnace.getType().getId());
-            config.set(path + ".world", loc.getWorld().getName());
-            config.set(path + ".x", loc.getBlockX());
-            config.set(path + ".y", loc.getBlockY());
-            config.set(path + ".z", loc.getBlockZ());
-            config.set(path + ".temperature", furnace.getCurrentTemperature());
+        storage.save(snapshotChanged(furnaces.getWorld(world)), removed);
+    }
 
-            count++;
+    /**
+     * Snapshots only furnaces whose state changed since their last save. A
+     * parked furnace needs no catching up first: its snapshot is stamped with
+     * its last tick, and loading fast-forwards from there.
+     */
+    private List<FurnaceSnapshot> snapshotChanged(Collection<FurnaceInstance> candidates) {
+        List<FurnaceSnapshot> changed = new ArrayList<>();
+        for (FurnaceInstance furnace : candidates) {
+            if (!furnace.hasUnsavedChanges()) continue;
+            changed.add(furnace.snapshot());
+            furnace.markSaved();
         }
+        return changed;
+    }
 
-        config.set("count", count);
+    /**
+     * Reads the region index and loads the regions around already loaded chunks.
+     * Everything else loads with its chunks.
+     */
+    public void loadAll() {
+        storage.loadIndex();
+        storage.loadClock(sessionStart);
+        migrateLegacyData();
 
-        try {
-            config.save(file);
-            plugin.getLogger().info("Saved " + count + " furnaces.");
-        } catch (IOException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to save furnaces", e);
+        for (World world : plugin.getServer().getWorlds()) {
+            for (Chunk chunk : world.getLoadedChunks()) {
+                handleChunkLoad(chunk);
+            }
         }
+
+        plugin.getLogger().info("Loading furnaces of " + loadingRegions.size() + " active regions (" +
+                storage.getIndexedRegionCount() + " regions stored).");
     }
 
-    public void loadAll() {
-        File file = new File(plugin.getDataFolder(), DATA_FILE);
-        if (!file.exists()) return;
+    /**
+     * Moves data from the single-file formats (binary journal, or YAML with
+     * type, location and temperature only) into the region layout.
+     */
+    private void migrateLegacyData() {
+        File dataFolder = new File(plugin.getDataFolder(), DATA_FOLDER);
+        File legacyBase = new File(dataFolder, LEGACY_STORAGE_NAME + ".dat");
+        File legacyJournal = new File(dataFolder, LEGACY_STORAGE_NAME + ".journal");
+        File legacyYaml = new File(dataFolder, LEGACY_YAML_FILE);
 
+        List<FurnaceSnapshot> snapshots = new ArrayList<>();
+        List<File> migrated = new ArrayList<>();
+
+        if (legacyBase.exists() || legacyJournal.exists()) {
+            FurnaceStorage legacy = storage.openStandalone(dataFolder, LEGACY_STORAGE_NAME);
+            try {
+                snapshots.addAll(legacy.load());
+                migrated.add(legacyBase);
+                migrated.add(legacyJournal);
+                migrated.add(new File(dataFolder, LEGACY_STORAGE_NAME + ".journal.compacting"));
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.SEVERE, "Failed to read legacy furnace data", e);
+            }
+            legacy.close();
+        } else if (legacyYaml.exists()) {
+            snapshots.addAll(readLegacyYaml(legacyYaml));
+            migrated.add(legacyYaml);
+        }
+
+        if (migrated.isEmpty()) return;
+
+        storage.save(snapshots, Collections.emptyList());
+
+        // The legacy files are the only copy until the region files are on disk
+        if (!storage.flush()) {
+            plugin.getLogger().severe("Failed to write migrated furnaces; legacy data is kept and migration retries next start.");
+            return;
+        }
+        for (File file : migrated) {
+            if (file.exists() && !file.renameTo(new File(file.getParentFile(), file.getName() + ".migrated"))) {
+                plugin.getLogger().warning("Could not rename " + file.getName() + " after migration.");
+            }
+        }
+        plugin.getLogger().info("Migrated " + snapshots.size() + " furnaces to per-region storage.");
+    }
+
+    private List<FurnaceSnapshot> readLegacyYaml(File file) {
+        List<FurnaceSnapshot> snapshots = new ArrayList<>();
         YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
         ConfigurationSection section = config.getConfigurationSection("furnaces");
-        if (section == null) return;
+        if (section == null) return snapshots;
 
-        int loaded = 0;
         for (String key : section.getKeys(false)) {
             ConfigurationSection fs = section.getConfigurationSection(key);
             if (fs == null) continue;
 
-            String typeId = fs.getString("type");
-            String worldName = fs.getString("world");
-            World world = plugin.getServer().getWorld(worldName);
+            World world = plugin.getServer().getWorld(fs.getString("world", ""));
             if (world == null) continue;
 
-            Location loc = new Location(world, fs.getInt("x"), fs.getInt("y"), fs.getInt("z"));
-            FurnaceInstance furnace = createFurnace(typeId, loc);
+            Optional<FurnaceType> type = configManager.getFurnaceConfig().getFurnaceType(fs.getString("type", ""));
+            if (type.isEmpty()) continue;
 
-            if (furnace != null) {
-                furnace.setCurrentTemperature(fs.getInt("temperature", 0));
-                loaded++;
-            }
+            // Detached instance - only used to produce a snapshot
+            Location loc = new Location(world, fs.getInt("x"), fs.getInt("y"), fs.getInt("z"));
+            FurnaceInstance furnace = new FurnaceInstance(type.get(), loc, recipeCache);
+            furnace.setCurrentTemperature(fs.getInt("temperature", 0));
+            snapshots.add(furnace.snapshot());
         }
+        return snapshots;
+    }
 
-        plugin.getLogger().info("Loaded " + loaded + " furnaces.");
+    /**
+     * Writes any queued saves and closes storage. Call after the final {@link #saveAll()}.
+     */
+    public void closeStorage() {
+        storage.close();
     }
 
     public void reload() {
-        openGUIs.values().forEach(FurnaceGUI::saveItemsToFurnace);
+        furnaceGUIs.values().forEach(FurnaceGUI::saveItemsToFurnace);
+        recipeCache.clear();
+        barTitles.clear();
+
+        if (tickTask != null) {
+            configureTickBudget();
+            configureAsyncSmelting();
+            configureHolograms();
+        }
     }
 
     // ==================== UTILITIES ====================
 
-    private String locationToKey(Location location) {
-        if (location == null || location.getWorld() == null) return "null";
-        return String.format("%s:%d:%d:%d",
-                location.getWorld().getName(),
-                location.getBlockX(),
-                location.getBlockY(),
-                location.getBlockZ());
-    }
-
     private Location normalizeLocation(Location location) {
         return new Location(location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
     }
@@ -595,8 +1439,24 @@ public class FurnaceManager {
 
     public JavaPlugin getPlugin() { return plugin; }
     public int getFurnaceCount() { return furnaces.size(); }
+    public int getLoadedFurnaceCount() { return loadedFurnaces.size(); }
+    public int getActiveFurnaceCount() { return activeFurnaces.size(); }
+    public int getScheduledFurnaceCount() { return eventWheel != null ? eventWheel.size() : 0; }
+    public double getTickBudgetMs() { return tickBudgetNanos / 1_000_000.0; }
+    public double getLastTickMs() { return lastTickNanos / 1_000_000.0; }
+    public long getDeferredFurnaceCount() { return deferredCount; }
+    public long getMaxTickLagMs() { return Math.max(maxLagMs, previousMaxLagMs); }
+    public long getBudgetOverrunCount() { return budgetOverruns; }
+    public int[] getLodTierCounts() { return lodTierCounts.clone(); }
     public int getOpenGUICount() { return openGUIs.size(); }
-    public Map<String, FurnaceInstance> getAllFurnaces() { return new HashMap<>(furnaces); }
+    public int getSharedGUICount() { return furnaceGUIs.size(); }
+    public int getFurnaceCount(World world) { return furnaces.countInWorld(world); }
+    public List<FurnaceInstance> getAllFurnaces() { return furnaces.values(); }
+    public List<FurnaceInstance> getFurnacesInWorld(World world) { return furnaces.getWorld(world); }
     public ConfigManager getConfigManager() { return configManager; }
     public ItemProviderRegistry getItemRegistry() { return itemRegistry; }
+    public AsyncSmeltingProcessor getAsyncSmeltingProcessor() { return asyncProcessor; }
+    public FurnaceHolograms getHolograms() { return holograms; }
+    public FurnaceRegionStore getStorage() { return storage; }
+    public RecipeMatchCache getRecipeCache() { return recipeCache; }
 }
\ No newline at end of file
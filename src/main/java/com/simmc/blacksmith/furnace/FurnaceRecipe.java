@@ -1,11 +1,11 @@
 package com.simmc.blacksmith.furnace;
 
+import com.simmc.blacksmith.items.ItemKey;
 import com.simmc.blacksmith.items.ItemProviderRegistry;
+import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 /**
  * Represents a smelting recipe for custom furnaces.
@@ -21,12 +21,21 @@ public class FurnaceRecipe {
     private final List<RecipeInput> inputs;
     private final List<RecipeOutput> outputs;
     private final List<RecipeOutput> badOutputs;
+    // Smelt every whole batch the inputs allow as one scaled job
+    private final boolean batchSmelting;
 
-    // Constructor with ideal temperature range
+    // Compiled matcher: ingredient per input, input -> pooled group, group -> required amount
+    private final Ingredient[] ingredients;
+    private final int[] inputGroups;
+    private final int[] requiredAmounts;
+    // Per-group totals reused by the main-thread matchers
+    private final int[] groupTotals;
+
+    // Constructor with ideal temperature range and batch mode
     public FurnaceRecipe(String id, long smeltTimeMs, int minTemperature,
                          int minIdealTemperature, int maxIdealTemperature,
                          List<RecipeInput> inputs, List<RecipeOutput> outputs,
-                         List<RecipeOutput> badOutputs) {
+                         List<RecipeOutput> badOutputs, boolean batchSmelting) {
         this.id = id;
         this.smeltTimeMs = smeltTimeMs;
         this.minTemperature = Math.max(0, minTemperature);
@@ -35,6 +44,21 @@ public class FurnaceRecipe {
         this.inputs = List.copyOf(inputs);
         this.outputs = List.copyOf(outputs);
         this.badOutputs = badOutputs != null ? List.copyOf(badOutputs) : List.of();
+        this.batchSmelting = batchSmelting;
+
+        this.ingredients = new Ingredient[this.inputs.size()];
+        this.inputGroups = new int[this.inputs.size()];
+        this.requiredAmounts = compileInputs();
+        this.groupTotals = new int[requiredAmounts.length];
+    }
+
+    // Constructor with ideal temperature range
+    public FurnaceRecipe(String id, long smeltTimeMs, int minTemperature,
+                         int minIdealTemperature, int maxIdealTemperature,
+                         List<RecipeInput> inputs, List<RecipeOutput> outputs,
+                         List<RecipeOutput> badOutputs) {
+        this(id, smeltTimeMs, minTemperature, minIdealTemperature, maxIdealTemperature,
+                inputs, outputs, badOutputs, false);
     }
 
     // Legacy constructor (backward compatibility)
@@ -87,78 +111,167 @@ public class FurnaceRecipe {
 
     /**
      * Checks if the provided input slots match this recipe's requirements.
+     * Uses the compiled matcher - one pass over the slots, no maps or boxing.
      */
     public boolean matchesInputs(ItemStack[] slots, ItemProviderRegistry registry) {
         if (slots == null || registry == null) {
             return false;
         }
+        return countBatches(tallyItems(slots, registry)) >= 1;
+    }
 
-        // Build map of what's required
-        Map<String, Integer> required = new HashMap<>();
-        for (RecipeInput input : inputs) {
-            String key = buildKey(input.type(), input.id());
-            required.merge(key, input.amount(), Integer::sum);
+    /**
+     * Counts how many whole times the slots cover this recipe's inputs,
+     * pooling amounts the same way as {@link #matchesInputs}.
+     */
+    public int countBatches(ItemStack[] slots, ItemProviderRegistry registry) {
+        if (slots == null || registry == null) {
+            return 0;
         }
+        return countBatches(tallyItems(slots, registry));
+    }
+
+    /**
+     * Same check as {@link #matchesInputs} against resolved item keys.
+     * Touches no ItemStack or provider, so it is safe off the main thread.
+     */
+    public boolean matchesKeys(ItemKey[] keys, int[] amounts) {
+        if (keys == null || amounts == null) {
+            return false;
+        }
+
+        // Own buffer - this runs on the async smelting threads
+        int[] found = new int[requiredAmounts.length];
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != null) addToGroup(found, firstMatchingInput(keys[slot]), amounts[slot]);
+        }
+        return countBatches(found) >= 1;
+    }
+
+    /**
+     * Adds up the slots per pooled group in one pass, resolving each item's key
+     * once; each item counts towards its first matching input. Returns the
+     * shared buffer, so callers must be on the main thread.
+     */
+    private int[] tallyItems(ItemStack[] slots, ItemProviderRegistry registry) {
+        int[] found = groupTotals;
+        Arrays.fill(found, 0);
 
-        // Build map of what's available
-        Map<String, Integer> available = new HashMap<>();
         for (ItemStack item : slots) {
             if (item == null || item.getType().isAir()) continue;
 
-            // Check each input to see if this item matches
-            for (RecipeInput input : inputs) {
-                if (matchesInput(item, input, registry)) {
-                    String key = buildKey(input.type(), input.id());
-                    available.merge(key, item.getAmount(), Integer::sum);
-                    break; // Don't double count
-                }
-            }
+            ItemKey key = registry.resolve(item);
+            if (key != null) addToGroup(found, firstMatchingInput(key), item.getAmount());
         }
+        return found;
+    }
+
+    private void addToGroup(int[] found, int input, int amount) {
+        if (input >= 0) {
+            found[inputGroups[input]] += amount;
+        }
+    }
 
-        // Check all requirements are met
-        for (Map.Entry<String, Integer> req : required.entrySet()) {
-            int found = available.getOrDefault(req.getKey(), 0);
-            if (found < req.getValue()) {
-                return false;
+    /**
+     * Whole batches the tallied amounts cover; 0 if any group falls short.
+     */
+    private int countBatches(int[] found) {
+        int batches = Integer.MAX_VALUE;
+        for (int group = 0; group < requiredAmounts.length; group++) {
+            if (requiredAmounts[group] > 0) {
+                batches = Math.min(batches, found[group] / requiredAmounts[group]);
             }
         }
+        return batches == Integer.MAX_VALUE ? 1 : batches;
+    }
 
-        return true;
+    private int firstMatchingInput(ItemKey key) {
+        for (int i = 0; i < ingredients.length; i++) {
+            if (ingredients[i].matches(key)) {
+                return i;
+            }
+        }
+        return -1;
     }
 
+    // ==================== COMPILED MATCHER ====================
+
     /**
-     * Checks if an ItemStack matches a specific input requirement.
+     * Fills the per-input arrays and returns the required amount per pooled group.
      */
-    private boolean matchesInput(ItemStack item, RecipeInput input, ItemProviderRegistry registry) {
-        if (item == null || item.getType().isAir()) {
-            return false;
+    private int[] compileInputs() {
+        Map<String, Integer> groups = new HashMap<>();
+        List<Integer> required = new ArrayList<>();
+
+        for (int i = 0; i < inputs.size(); i++) {
+            RecipeInput input = inputs.get(i);
+            ingredients[i] = Ingredient.compile(input);
+
+            Integer group = groups.get(input.getKey());
+            if (group == null) {
+                group = required.size();
+                groups.put(input.getKey(), group);
+                required.add(0);
+            }
+            inputGroups[i] = group;
+            required.set(group, required.get(group) + input.amount());
         }
 
-        String inputType = input.type().toLowerCase();
-        String inputId = input.id();
+        int[] amounts = new int[required.size()];
+        for (int g = 0; g < amounts.length; g++) {
+            amounts[g] = required.get(g);
+        }
+        return amounts;
+    }
 
-        if (inputType.equals("minecraft")) {
-            // For minecraft items, compare material names directly
-            String itemMaterial = item.getType().name();
-            String targetMaterial = inputId.toUpperCase().replace("-", "_").replace(" ", "_");
+    /**
+     * Compiled form of a {@link RecipeInput}.
+     * Vanilla ids are resolved to the materials they accept; custom ids are
+     * stored with their provider type normalized.
+     */
+    record Ingredient(String type, String id, String normalizedId, Set<Material> materials) {
+
+        static Ingredient compile(RecipeInput input) {
+            String type = ItemProviderRegistry.normalizeType(input.type());
+            String id = input.id();
+
+            if ("minecraft".equals(type)) {
+                Set<Material> materials = EnumSet.noneOf(Material.class);
+                for (Material material : Material.values()) {
+                    if (ItemKey.matchesMaterial(material, id)) {
+                        materials.add(material);
+                    }
+                }
+                return new Ingredient(type, id, id.toLowerCase(), materials);
+            }
 
-            // Exact match
-            if (itemMaterial.equalsIgnoreCase(targetMaterial)) {
-                return true;
+            String normalized = id.toLowerCase();
+            if ("craftengine".equals(type)) {
+                // CraftEngine ids match with or without namespace
+                int colon = normalized.indexOf(':');
+                if (colon >= 0) normalized = normalized.substring(colon + 1);
             }
+            return new Ingredient(type, id, normalized, Set.of());
+        }
 
-            // Without underscores match
-            String itemNoUnderscore = itemMaterial.replace("_", "");
-            String targetNoUnderscore = targetMaterial.replace("_", "");
-            return itemNoUnderscore.equalsIgnoreCase(targetNoUnderscore);
-        } else {
-            // For custom items (smc, craftengine, etc.), use registry
-            return registry.matches(item, inputType, inputId);
+        boolean isVanilla() {
+            return "minecraft".equals(type);
         }
-    }
 
-    private String buildKey(String type, String id) {
-        return type.toLowerCase() + ":" + id.toLowerCase();
+        boolean matches(ItemKey key) {
+            if (isVanilla()) {
+                return materials.contains(key.material());
+            }
+            if (!type.equals(key.type())) return false;
+
+            String keyId = key.id();
+            if ("craftengine".equals(type)) {
+                int start = keyId.indexOf(':') + 1;
+                return keyId.length() - start == normalizedId.length()
+                        && keyId.regionMatches(true, start, normalizedId, 0, normalizedId.length());
+            }
+            return keyId.equalsIgnoreCase(normalizedId);
+        }
     }
 
     public int getTotalInputAmount() {
@@ -179,5 +292,7 @@ public class FurnaceRecipe {
     public List<RecipeInput> getInputs() { return inputs; }
     public List<RecipeOutput> getOutputs() { return outputs; }
     public List<RecipeOutput> getBadOutputs() { return badOutputs; }
+    public boolean isBatchSmelting() { return batchSmelting; }
     public int getInputCount() { return inputs.size(); }
+    Ingredient[] getIngredients() { return ingredients; }
 }
\ No newline at end of file
@@ -0,0 +1,457 @@
+package com.simmc.blacksmith.furnace;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Furnace storage sharded by world and region (32x32 chunks), laid out as
+ * {@code <dir>/<world uuid>/r.<x>.<z>.dat}.
+ *
+ * An index file lists every region that has data, so startup reads only the
+ * index and chunk loads in empty regions never touch the disk. Region files
+ * are opened on first use and closed when the region unloads.
+ *
+ * Main thread only, apart from the shared I/O thread the regions write on.
+ */
+public class FurnaceRegionStore {
+
+    private static final int INDEX_MAGIC = 0x534D4349; // "SMCI"
+    private static final int INDEX_VERSION = 1;
+    private static final String INDEX_FILE = "index.dat";
+
+    private static final int CLOCK_MAGIC = 0x534D4354; // "SMCT"
+    private static final int CLOCK_VERSION = 1;
+    private static final String CLOCK_FILE = "clock.dat";
+    // Downtimes older than this many restarts are forgotten
+    private static final int MAX_DOWNTIMES = 64;
+    // How often saves refresh the last-alive time
+    private static final long ALIVE_INTERVAL_MS = 10_000;
+
+    private final Logger logger;
+    private final File directory;
+    private final File indexFile;
+    private final File clockFile;
+    private final ExecutorService io;
+
+    private final Set<RegionKey> index;
+    private final Map<RegionKey, FurnaceStorage> open;
+
+    // Coalesced saves of regions that have been closed since startup
+    private long closedCoalesced;
+
+    // Past server downtimes as {stoppedAt, startedAt}, oldest first (main thread only)
+    private final List<long[]> downtimes;
+    private long lastAliveWritten;
+
+    public FurnaceRegionStore(File directory, Logger logger) {
+        this.logger = logger;
+        this.directory = directory;
+        this.indexFile = new File(directory, INDEX_FILE);
+        this.clockFile = new File(directory, CLOCK_FILE);
+        this.downtimes = new ArrayList<>();
+        this.index = new HashSet<>();
+        this.open = new HashMap<>();
+        this.io = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "SMCBlacksmith-Furnace-IO");
+            t.setDaemon(true);
+            return t;
+        });
+
+        directory.mkdirs();
+    }
+
+    // ==================== INDEX ====================
+
+    /**
+     * Reads the region index, rebuilding it from file names if it is missing or damaged.
+     */
+    public void loadIndex() {
+        index.clear();
+
+        if (indexFile.exists()) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+                if (in.readInt() != INDEX_MAGIC || in.readInt() != INDEX_VERSION) {
+                    throw new IOException("Unrecognized furnace index header");
+                }
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    index.add(new RegionKey(new UUID(in.readLong(), in.readLong()), in.readInt(), in.readInt()));
+                }
+                return;
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Furnace region index is unreadable, rebuilding it", e);
+                index.clear();
+            }
+        }
+
+        rebuildIndex();
+    }
+
+    /**
+     * Lists region files without reading them.
+     */
+    private void rebuildIndex() {
+        File[] worlds = directory.listFiles(File::isDirectory);
+        if (worlds == null) return;
+
+        for (File worldDir : worlds) {
+            UUID worldId;
+            try {
+                worldId = UUID.fromString(worldDir.getName());
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+
+            String[] names = worldDir.list();
+            if (names == null) continue;
+
+            for (String name : names) {
+                RegionKey key = RegionKey.parse(worldId, name);
+                if (key != null) index.add(key);
+            }
+        }
+
+        writeIndex();
+    }
+
+    private void writeIndex() {
+        List<RegionKey> entries = new ArrayList<>(index);
+
+        try {
+            io.execute(() -> {
+                File temp = new File(directory, INDEX_FILE + ".tmp");
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+                    out.writeInt(INDEX_MAGIC);
+                    out.writeInt(INDEX_VERSION);
+                    out.writeInt(entries.size());
+                    for (RegionKey key : entries) {
+                        out.writeLong(key.worldId().getMostSignificantBits());
+                        out.writeLong(key.worldId().getLeastSignificantBits());
+                        out.writeInt(key.x());
+                        out.writeInt(key.z());
+                    }
+                } catch (IOException e) {
+                    logger.log(Level.WARNING, "Failed to write furnace region index", e);
+                    return;
+                }
+
+                try {
+                    Files.move(temp.toPath(), indexFile.toPath(),
+                            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    logger.log(Level.WARNING, "Failed to replace furnace region index", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.warning("Furnace storage is closed; region index was not updated.");
+        }
+    }
+
+    public boolean hasData(RegionKey region) {
+        return index.contains(region);
+    }
+
+    // ==================== DOWNTIME ====================
+
+    /**
+     * Reads past downtimes and records the one that just ended: from the last
+     * time the previous run was known alive (its shutdown, or its last save
+     * after a crash) until {@code startedAt}.
+     */
+    public void loadClock(long startedAt) {
+        downtimes.clear();
+        long lastAlive = 0;
+
+        if (clockFile.exists()) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(clockFile)))) {
+                if (in.readInt() != CLOCK_MAGIC || in.readInt() != CLOCK_VERSION) {
+                    throw new IOException("Unrecognized furnace clock header");
+                }
+                lastAlive = in.readLong();
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    downtimes.add(new long[]{in.readLong(), in.readLong()});
+                }
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Furnace clock is unreadable, treating all earlier time as downtime", e);
+                downtimes.clear();
+                lastAlive = 0;
+            }
+        }
+
+        // Without a record, everything before this start counts as downtime
+        long stoppedAt = lastAlive > 0 ? Math.min(lastAlive, startedAt) : 0;
+        downtimes.add(new long[]{stoppedAt, startedAt});
+        while (downtimes.size() > MAX_DOWNTIMES) downtimes.remove(0);
+
+        writeClock(startedAt);
+    }
+
+    /**
+     * Server downtime between {@code since} and now. Time the server ran,
+     * e.g. while a region sat unloaded, doesn't count.
+     */
+    public long getDowntimeSince(long since) {
+        long total = 0;
+        for (long[] downtime : downtimes) {
+            total += Math.max(0, downtime[1] - Math.max(downtime[0], since));
+        }
+        return total;
+    }
+
+    private void markAlive(boolean force) {
+        long now = System.currentTimeMillis();
+        if (!force && now - lastAliveWritten < ALIVE_INTERVAL_MS) return;
+        writeClock(now);
+    }
+
+    private void writeClock(long aliveAt) {
+        lastAliveWritten = aliveAt;
+        List<long[]> entries = new ArrayList<>(downtimes);
+
+        try {
+            io.execute(() -> {
+                File temp = new File(directory, CLOCK_FILE + ".tmp");
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+                    out.writeInt(CLOCK_MAGIC);
+                    out.writeInt(CLOCK_VERSION);
+                    out.writeLong(aliveAt);
+                    out.writeInt(entries.size());
+                    for (long[] downtime : entries) {
+                        out.writeLong(downtime[0]);
+                        out.writeLong(downtime[1]);
+                    }
+                } catch (IOException e) {
+                    logger.log(Level.WARNING, "Failed to write furnace clock", e);
+                    return;
+                }
+
+                try {
+                    Files.move(temp.toPath(), clockFile.toPath(),
+                            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    logger.log(Level.WARNING, "Failed to replace furnace clock", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.warning("Furnace storage is closed; furnace clock was not updated.");
+        }
+    }
+
+    // ==================== REGIONS ====================
+
+    /**
+     * Reads every furnace stored in a region on the I/O thread, after the
+     * region's queued saves are written. Completes on the I/O thread.
+     */
+    public CompletableFuture<List<FurnaceSnapshot>> loadAsync(RegionKey region) {
+        if (!index.contains(region)) return CompletableFuture.completedFuture(Collections.emptyList());
+        return storage(region).loadAsync();
+    }
+
+    /**
+     * Queues changed and removed furnaces, routed to their regions.
+     */
+    public void save(Collection<FurnaceSnapshot> changed, Collection<FurnaceStorage.Key> removed) {
+        pruneClosed();
+        markAlive(false);
+        if (changed.isEmpty() && removed.isEmpty()) return;
+
+        Map<RegionKey, List<FurnaceSnapshot>> changedByRegion = new HashMap<>();
+        for (FurnaceSnapshot snapshot : changed) {
+            changedByRegion.computeIfAbsent(RegionKey.of(snapshot.worldId(), snapshot.pos()), k -> new ArrayList<>())
+                    .add(snapshot);
+        }
+
+        Map<RegionKey, List<FurnaceStorage.Key>> removedByRegion = new HashMap<>();
+        for (FurnaceStorage.Key key : removed) {
+            RegionKey region = RegionKey.of(key);
+            // Nothing stored there, nothing to remove
+            if (!index.contains(region) && !changedByRegion.containsKey(region)) continue;
+            removedByRegion.computeIfAbsent(region, k -> new ArrayList<>()).add(key);
+        }
+
+        boolean indexChanged = false;
+        Set<RegionKey> regions = new HashSet<>(changedByRegion.keySet());
+        regions.addAll(removedByRegion.keySet());
+
+        for (RegionKey region : regions) {
+            if (index.add(region)) indexChanged = true;
+            storage(region).save(
+                    changedByRegion.getOrDefault(region, Collections.emptyList()),
+                    removedByRegion.getOrDefault(region, Collections.emptyList()));
+        }
+
+        if (indexChanged) writeIndex();
+    }
+
+    /**
+     * Closes a region's files once its queued saves are written. The storage
+     * stays open until then, so a batch that failed to write is retried by
+     * the same instance rather than lost.
+     */
+    public void close(RegionKey region) {
+        FurnaceStorage storage = open.get(region);
+        if (storage != null) {
+            storage.close();
+        }
+    }
+
+    /**
+     * Drops closed regions that have written everything and retries the rest.
+     */
+    private void pruneClosed() {
+        Iterator<FurnaceStorage> it = open.values().iterator();
+        while (it.hasNext()) {
+            FurnaceStorage storage = it.next();
+            if (!storage.isClosed()) continue;
+
+            if (storage.isDrained()) {
+                closedCoalesced += storage.getCoalescedCount();
+                it.remove();
+            } else {
+                storage.retry();
+            }
+        }
+    }
+
+    private FurnaceStorage storage(RegionKey region) {
+        FurnaceStorage storage = open.computeIfAbsent(region, r -> new FurnaceStorage(
+                new File(directory, r.worldId().toString()), r.fileName(), logger, io));
+        storage.reopen();
+        return storage;
+    }
+
+    // ==================== LIFECYCLE ====================
+
+    /**
+     * Writes every queued save, closes all regions and stops the I/O thread.
+     */
+    public void close() {
+        new ArrayList<>(open.keySet()).forEach(this::close);
+        markAlive(true);
+
+        io.shutdown();
+        try {
+            if (!io.awaitTermination(30, TimeUnit.SECONDS)) {
+                logger.warning("Furnace data did not finish writing in time; unwritten changes are lost.");
+                io.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            io.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Blocks until every save queued so far has been written. Startup only.
+     *
+     * @return true if all of them were written, false if any failed or the
+     *         I/O thread is gone
+     */
+    public boolean flush() {
+        try {
+            io.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | RejectedExecutionException e) {
+            return false;
+        }
+        // A failed batch is put back in its queue
+        return getQueuedCount() == 0;
+    }
+
+    /**
+     * Opens a storage outside the region layout (legacy data) on the shared I/O thread.
+     */
+    FurnaceStorage openStandalone(File dir, String name) {
+        return new FurnaceStorage(dir, name, logger, io);
+    }
+
+    // ==================== STATS ====================
+
+    public int getIndexedRegionCount() { return index.size(); }
+    public int getOpenRegionCount() {
+        int count = 0;
+        for (FurnaceStorage storage : open.values()) {
+            if (!storage.isClosed()) count++;
+        }
+        return count;
+    }
+
+    public long getJournalBytes() {
+        long total = 0;
+        for (FurnaceStorage storage : open.values()) total += storage.getJournalBytes();
+        return total;
+    }
+
+    public int getQueuedCount() {
+        int total = 0;
+        for (FurnaceStorage storage : open.values()) total += storage.getQueuedCount();
+        return total;
+    }
+
+    public long getCoalescedCount() {
+        long total = closedCoalesced;
+        for (FurnaceStorage storage : open.values()) total += storage.getCoalescedCount();
+        return total;
+    }
+
+    public boolean isCompacting() {
+        for (FurnaceStorage storage : open.values()) {
+            if (storage.isCompacting()) return true;
+        }
+        return false;
+    }
+
+    // ==================== KEY ====================
+
+    /**
+     * A world region: 32x32 chunks, the same grid as the world's own region files.
+     */
+    public record RegionKey(UUID worldId, int x, int z) {
+
+        public static RegionKey ofChunk(UUID worldId, int chunkX, int chunkZ) {
+            return new RegionKey(worldId, chunkX >> 5, chunkZ >> 5);
+        }
+
+        public static RegionKey of(UUID worldId, BlockPos pos) {
+            return ofChunk(worldId, pos.x() >> 4, pos.z() >> 4);
+        }
+
+        static RegionKey of(FurnaceStorage.Key key) {
+            return of(new UUID(key.worldMost(), key.worldLeast()), BlockPos.fromLong(key.pos()));
+        }
+
+        String fileName() {
+            return "r." + x + "." + z;
+        }
+
+        /**
+         * Parses a region file name such as {@code r.-1.3.dat}; null for anything else.
+         */
+        static RegionKey parse(UUID worldId, String fileName) {
+            if (!fileName.startsWith("r.") || !(fileName.endsWith(".dat") || fileName.endsWith(".journal"))) {
+                return null;
+            }
+            String[] parts = fileName.split("\\.");
+            if (parts.length < 4) return null;
+            try {
+                return new RegionKey(worldId, Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.simmc.blacksmith.furnace;
+
+import org.bukkit.inventory.ItemStack;
+
+import java.util.UUID;
+
+/**
+ * Immutable copy of everything a furnace persists.
+ * Captured on the main thread; items are clones, so it can be encoded anywhere.
+ */
+public record FurnaceSnapshot(
+        UUID worldId,
+        BlockPos pos,
+        String typeId,
+        long savedAt,
+
+        // Temperature
+        int temperature,
+        int bellowsBoost,
+        long lastBellowsTime,
+
+        // Burn state
+        boolean burning,
+        int fuelMaxTemperature,
+        int fuelBaseTemperature,
+        long burnStartTime,
+        long burnEndTime,
+        long burnDurationMs,
+        int fuelConsumedCount,
+        String currentFuelType,
+
+        // Smelting
+        String recipeId,
+        long smeltProgress,
+        long smeltTimeTotal,
+        long timeInsideIdealRange,
+        long timeOutsideIdealRange,
+        boolean reachedIdeal,
+
+        // Inventory
+        ItemStack[] inputs,
+        ItemStack fuel,
+        ItemStack output
+) {}
@@ -0,0 +1,447 @@
+package com.simmc.blacksmith.furnace;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only binary storage for one furnace region.
+ *
+ * A base file holds one record per furnace; every save appends only the
+ * changed and removed furnaces to a journal. Once the journal outgrows the
+ * base it is rotated out and merged into a new base on a background thread.
+ *
+ * Loading replays base, rotated journal and journal in that order. Records
+ * carry full state, so replaying one twice is harmless.
+ *
+ * Saves are queued from the main thread and encoded and written on the
+ * I/O thread shared by all regions. Saves requested before the previous one
+ * was written merge into one batch, latest state per furnace winning.
+ * Loads also run on that thread, so they always see every earlier save.
+ */
+public class FurnaceStorage {
+
+    private static final int MAGIC = 0x534D4346; // "SMCF"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+
+    private static final byte OP_PUT = 1;
+    private static final byte OP_REMOVE = 2;
+
+    // Journals smaller than this are never worth compacting
+    private static final long MIN_COMPACT_BYTES = 256 * 1024;
+
+    private final Logger logger;
+    private final File baseFile;
+    private final File journalFile;
+    private final File compactingFile;
+    private final ExecutorService io;
+
+    // Batch waiting for the I/O thread, guarded by 'this'
+    private Map<Key, FurnaceSnapshot> queuedPuts;
+    private Set<Key> queuedRemovals;
+    private boolean flushScheduled;
+    private boolean flushing;
+    private boolean closed;
+    private long coalescedCount;
+
+    // I/O thread only
+    private DataOutputStream journal;
+    private volatile long journalBytes;
+    private volatile boolean compacting;
+
+    FurnaceStorage(File directory, String name, Logger logger, ExecutorService io) {
+        this.logger = logger;
+        this.io = io;
+        this.baseFile = new File(directory, name + ".dat");
+        this.journalFile = new File(directory, name + ".journal");
+        this.compactingFile = new File(directory, name + ".journal.compacting");
+        this.queuedPuts = new LinkedHashMap<>();
+        this.queuedRemovals = new LinkedHashSet<>();
+
+        directory.mkdirs();
+    }
+
+    // ==================== LOAD ====================
+
+    /**
+     * Reads all stored furnaces on the I/O thread, after every save queued so far.
+     * A torn journal tail from a crash is cut off here. The future completes on
+     * the I/O thread.
+     */
+    public CompletableFuture<List<FurnaceSnapshot>> loadAsync() {
+        CompletableFuture<List<FurnaceSnapshot>> result = new CompletableFuture<>();
+        try {
+            io.execute(() -> {
+                try {
+                    result.complete(loadNow());
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(new IOException("Furnace storage is closed", e));
+        }
+        return result;
+    }
+
+    /**
+     * Blocking {@link #loadAsync()}, for startup only.
+     */
+    public List<FurnaceSnapshot> load() throws IOException {
+        try {
+            return loadAsync().get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) throw cause;
+            throw new IOException("Failed to load " + baseFile.getName(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading " + baseFile.getName(), e);
+        }
+    }
+
+    private List<FurnaceSnapshot> loadNow() throws IOException {
+        // Appends must not continue on a stream opened before the truncation below
+        closeJournal();
+
+        Map<Key, byte[]> records = new LinkedHashMap<>();
+
+        replay(baseFile, records);
+        replay(compactingFile, records);
+        long validJournal = replay(journalFile, records);
+
+        if (journalFile.exists() && journalFile.length() > validJournal) {
+            logger.warning("Furnace journal has a damaged tail, truncating to last complete entry.");
+            try (RandomAccessFile raf = new RandomAccessFile(journalFile, "rw")) {
+                raf.setLength(validJournal);
+            }
+        }
+        journalBytes = journalFile.exists() ? journalFile.length() : 0;
+
+        List<FurnaceSnapshot> snapshots = new ArrayList<>(records.size());
+        for (byte[] record : records.values()) {
+            try {
+                snapshots.add(FurnaceCodec.decode(record));
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Skipping unreadable furnace record", e);
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * Applies a file's entries to the map.
+     * @return length of the valid prefix of the file
+     */
+    private long replay(File file, Map<Key, byte[]> records) throws IOException {
+        if (!file.exists() || file.length() == 0) return 0;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a furnace data file: " + file.getName());
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported furnace data version " + version + " in " + file.getName());
+            }
+
+            long valid = HEADER_BYTES;
+            CRC32 crc = new CRC32();
+
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+
+                try {
+                    int checksum = in.readInt();
+                    byte op = in.readByte();
+                    if (length < FurnaceCodec.KEY_BYTES || length > file.length()) break;
+
+                    byte[] payload = new byte[length];
+                    in.readFully(payload);
+
+                    crc.reset();
+                    crc.update(op);
+                    crc.update(payload);
+                    if ((int) crc.getValue() != checksum) break;
+
+                    Key key = Key.of(payload);
+                    if (op == OP_PUT) {
+                        records.put(key, payload);
+                    } else if (op == OP_REMOVE) {
+                        records.remove(key);
+                    } else {
+                        break;
+                    }
+                } catch (EOFException e) {
+                    break;
+                }
+
+                valid += 9L + length;
+            }
+
+            if (valid < file.length() && file != journalFile) {
+                logger.warning("Furnace data file " + file.getName() + " ends with a damaged entry; it was skipped.");
+            }
+            return valid;
+        }
+    }
+
+    // ==================== SAVE ====================
+
+    /**
+     * Queues changed and removed furnaces for the I/O thread.
+     * Snapshots must already be immutable; nothing here touches the disk.
+     */
+    public synchronized void save(Collection<FurnaceSnapshot> changed, Collection<Key> removed) {
+        if (changed.isEmpty() && removed.isEmpty()) return;
+
+        for (Key key : removed) {
+            queuedPuts.remove(key);
+            queuedRemovals.add(key);
+        }
+        for (FurnaceSnapshot snapshot : changed) {
+            Key key = Key.of(snapshot.worldId(), snapshot.pos());
+            queuedRemovals.remove(key);
+            queuedPuts.put(key, snapshot);
+        }
+
+        if (flushScheduled) {
+            coalescedCount++;
+            return;
+        }
+        scheduleFlush();
+    }
+
+    /**
+     * Retries a batch that failed to write. Closed storages get no further
+     * saves, so their owner calls this to get them written.
+     */
+    synchronized void retry() {
+        if (flushScheduled || (queuedPuts.isEmpty() && queuedRemovals.isEmpty())) return;
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        flushScheduled = true;
+        try {
+            io.execute(this::flush);
+        } catch (RejectedExecutionException e) {
+            flushScheduled = false;
+            logger.warning("Furnace storage is closed; " + queuedPuts.size() + " changes were not saved.");
+        }
+    }
+
+    /**
+     * Writes the queued batch. Runs on the I/O thread.
+     */
+    private void flush() {
+        Map<Key, FurnaceSnapshot> puts;
+        Set<Key> removals;
+        synchronized (this) {
+            puts = queuedPuts;
+            removals = queuedRemovals;
+            queuedPuts = new LinkedHashMap<>();
+            queuedRemovals = new LinkedHashSet<>();
+            flushScheduled = false;
+            flushing = true;
+        }
+
+        try {
+            append(puts.values(), removals);
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Failed to save furnaces, will retry with the next save", e);
+            requeue(puts, removals);
+        } finally {
+            synchronized (this) {
+                flushing = false;
+                // A retry after close reopened the journal
+                if (closed) closeJournal();
+            }
+        }
+    }
+
+    /**
+     * Puts a failed batch back unless newer changes replaced it meanwhile.
+     */
+    private synchronized void requeue(Map<Key, FurnaceSnapshot> puts, Set<Key> removals) {
+        for (Key key : removals) {
+            if (!queuedPuts.containsKey(key)) queuedRemovals.add(key);
+        }
+        for (Map.Entry<Key, FurnaceSnapshot> entry : puts.entrySet()) {
+            if (!queuedRemovals.contains(entry.getKey())) queuedPuts.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+        // A half-written entry is cut off on the next load; start over on a fresh stream
+        closeJournal();
+    }
+
+    private void append(Collection<FurnaceSnapshot> changed, Collection<Key> removed) throws IOException {
+        if (changed.isEmpty() && removed.isEmpty()) return;
+
+        DataOutputStream out = openJournal();
+        for (Key key : removed) {
+            journalBytes += writeEntry(out, OP_REMOVE, key.toBytes());
+        }
+        for (FurnaceSnapshot snapshot : changed) {
+            journalBytes += writeEntry(out, OP_PUT, FurnaceCodec.encode(snapshot));
+        }
+        out.flush();
+
+        if (journalBytes > Math.max(MIN_COMPACT_BYTES, baseFile.length())) {
+            compact();
+        }
+    }
+
+    private DataOutputStream openJournal() throws IOException {
+        if (journal != null) return journal;
+
+        boolean fresh = !journalFile.exists() || journalFile.length() == 0;
+        journalBytes = fresh ? 0 : journalFile.length();
+        journal = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(journalFile, true)));
+        if (fresh) {
+            writeHeader(journal);
+            journalBytes = HEADER_BYTES;
+        }
+        return journal;
+    }
+
+    private void closeJournal() {
+        if (journal == null) return;
+        try {
+            journal.close();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to close furnace journal", e);
+        }
+        journal = null;
+    }
+
+    private static void writeHeader(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+    }
+
+    private static int writeEntry(DataOutputStream out, byte op, byte[] payload) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(op);
+        crc.update(payload);
+
+        out.writeInt(payload.length);
+        out.writeInt((int) crc.getValue());
+        out.writeByte(op);
+        out.write(payload);
+        return 9 + payload.length;
+    }
+
+    // ==================== COMPACTION ====================
+
+    /**
+     * Rotates the journal out and merges it into a new base.
+     * Runs on the I/O thread between saves, so no append can race it.
+     */
+    private void compact() {
+        compacting = true;
+        try {
+            // A leftover rotated journal (failed earlier run) is merged first
+            if (!compactingFile.exists()) {
+                closeJournal();
+                Files.move(journalFile.toPath(), compactingFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+                journalBytes = 0;
+            }
+
+            Map<Key, byte[]> records = new LinkedHashMap<>();
+            replay(baseFile, records);
+            replay(compactingFile, records);
+
+            File temp = new File(baseFile.getParentFile(), baseFile.getName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+                writeHeader(out);
+                for (byte[] record : records.values()) {
+                    writeEntry(out, OP_PUT, record);
+                }
+            }
+
+            Files.move(temp.toPath(), baseFile.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.deleteIfExists(compactingFile.toPath());
+        } catch (IOException e) {
+            // Data is still complete in base + rotated journal; the next compaction retries
+            logger.log(Level.SEVERE, "Failed to compact furnace data", e);
+        } finally {
+            compacting = false;
+        }
+    }
+
+    // ==================== LIFECYCLE ====================
+
+    /**
+     * Closes the journal once every save queued so far is written.
+     * A batch that fails to write stays queued until {@link #retry()}.
+     */
+    void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        try {
+            io.execute(this::closeJournal);
+        } catch (RejectedExecutionException ignored) {
+            // Executor already stopped - nothing left to write
+        }
+    }
+
+    /**
+     * Takes a closed storage back into use, e.g. when its region loads again.
+     */
+    synchronized void reopen() {
+        closed = false;
+    }
+
+    /**
+     * @return true once the storage is closed and nothing is left to write
+     */
+    synchronized boolean isDrained() {
+        return closed && !flushScheduled && !flushing && queuedPuts.isEmpty() && queuedRemovals.isEmpty();
+    }
+
+    synchronized boolean isClosed() { return closed; }
+
+    public long getJournalBytes() { return journalBytes; }
+    public boolean isCompacting() { return compacting; }
+    public synchronized int getQueuedCount() { return queuedPuts.size() + queuedRemovals.size(); }
+    public synchronized long getCoalescedCount() { return coalescedCount; }
+
+    // ==================== KEY ====================
+
+    /**
+     * Identity of a stored furnace: world UUID plus packed block position.
+     */
+    public record Key(long worldMost, long worldLeast, long pos) {
+
+        public static Key of(UUID worldId, BlockPos pos) {
+            return new Key(worldId.getMostSignificantBits(), worldId.getLeastSignificantBits(), pos.asLong());
+        }
+
+        static Key of(byte[] record) {
+            ByteBuffer buffer = ByteBuffer.wrap(record, 0, FurnaceCodec.KEY_BYTES);
+            return new Key(buffer.getLong(), buffer.getLong(), buffer.getLong());
+        }
+
+        byte[] toBytes() {
+            return ByteBuffer.allocate(FurnaceCodec.KEY_BYTES)
+                    .putLong(worldMost).putLong(worldLeast).putLong(pos)
+                    .array();
+        }
+    }
+}
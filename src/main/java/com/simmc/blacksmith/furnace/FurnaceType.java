@@ -1,5 +1,6 @@
 package com.simmc.blacksmith.furnace;
 
+import com.simmc.blacksmith.items.ItemKey;
 import com.simmc.blacksmith.items.ItemProviderRegistry;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
@@ -42,6 +43,14 @@ public class FurnaceType {
     // Smelting quality settings
     private final long badOutputThresholdMs;
     private final double minIdealRatio;
+    // Batch smelting for every recipe of this type
+    private final boolean batchSmelting;
+
+    // Level of detail: distance bands to the nearest player and tick interval for each
+    private final double lodNearDistance;
+    private final double lodFarDistance;
+    private final int lodMidInterval;
+    private final int lodFarInterval;
 
     // Input restrictions
     private final Set<AllowedInput> allowedInputs;
@@ -55,6 +64,7 @@ public class FurnaceType {
 
     // Recipes
     private final List<FurnaceRecipe> recipes;
+    private final RecipeIndex recipeIndex;
 
     private FurnaceType(Builder builder) {
         this.id = builder.id;
@@ -78,6 +88,11 @@ public class FurnaceType {
         this.bellowsInstantBoost = builder.bellowsInstantBoost;
         this.badOutputThresholdMs = builder.badOutputThresholdMs;
         this.minIdealRatio = builder.minIdealRatio;
+        this.batchSmelting = builder.batchSmelting;
+        this.lodNearDistance = builder.lodNearDistance;
+        this.lodFarDistance = builder.lodFarDistance;
+        this.lodMidInterval = builder.lodMidInterval;
+        this.lodFarInterval = builder.lodFarInterval;
 
         this.allowedInputs = Set.copyOf(builder.allowedInputs);
         this.restrictInputs = builder.restrictInputs;
@@ -87,6 +102,7 @@ public class FurnaceType {
         this.fuelSlot = builder.fuelSlot;
         this.outputSlot = builder.outputSlot;
         this.recipes = List.copyOf(builder.recipes);
+        this.recipeIndex = new RecipeIndex(recipes);
     }
 
     // ==================== CE FURNITURE CHECKS ====================
@@ -174,8 +190,24 @@ public class FurnaceType {
 
     // ==================== RECIPES ====================
 
+    /**
+     * Finds the first recipe matching the inputs.
+     * Only recipes whose ingredients are all present are tested.
+     */
     public FurnaceRecipe findMatchingRecipe(ItemStack[] inputs, ItemProviderRegistry registry) {
-        for (FurnaceRecipe recipe : recipes) {
+        if (inputs == null || registry == null) return null;
+
+        ItemKey[] keys = new ItemKey[inputs.length];
+        for (int i = 0; i < inputs.length; i++) {
+            ItemStack item = inputs[i];
+            if (item != null && !item.getType().isAir()) {
+                keys[i] = registry.resolve(item);
+            }
+        }
+
+        BitSet candidates = recipeIndex.candidates(keys);
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            FurnaceRecipe recipe = recipes.get(i);
             if (recipe.matchesInputs(inputs, registry)) {
                 return recipe;
             }
@@ -183,6 +215,20 @@ public class FurnaceType {
         return null;
     }
 
+    /**
+     * Key-based variant of {@link #findMatchingRecipe(ItemStack[], ItemProviderRegistry)}.
+     */
+    public FurnaceRecipe findMatchingRecipe(ItemKey[] keys, int[] amounts) {
+        BitSet candidates = recipeIndex.candidates(keys);
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            FurnaceRecipe recipe = recipes.get(i);
+            if (recipe.matchesKeys(keys, amounts)) {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
     public Optional<FurnaceRecipe> getRecipe(String recipeId) {
         return recipes.stream()
                 .filter(r -> r.getId().equals(recipeId))
@@ -212,6 +258,21 @@ public class FurnaceType {
     public double getBellowsInstantBoost() { return bellowsInstantBoost; }
     public long getBadOutputThresholdMs() { return badOutputThresholdMs; }
     public double getMinIdealRatio() { return minIdealRatio; }
+    public boolean isBatchSmelting() { return batchSmelting; }
+    public double getLodNearDistance() { return lodNearDistance; }
+    public double getLodFarDistance() { return lodFarDistance; }
+    public int getLodMidInterval() { return lodMidInterval; }
+    public int getLodFarInterval() { return lodFarInterval; }
+
+    /**
+     * Furnace ticks between services for a furnace whose nearest player is
+     * this far away (squared, in blocks).
+     */
+    public int getLodInterval(double nearestPlayerDistanceSquared) {
+        if (nearestPlayerDistanceSquared <= lodNearDistance * lodNearDistance) return 1;
+        if (nearestPlayerDistanceSquared <= lodFarDistance * lodFarDistance) return lodMidInterval;
+        return lodFarInterval;
+    }
 
     public Set<AllowedInput> getAllowedInputs() { return allowedInputs; }
     public boolean isRestrictInputs() { return restrictInputs; }
@@ -304,6 +365,12 @@ public class FurnaceType {
 
         private long badOutputThresholdMs = 4000;
         private double minIdealRatio = 0.5;
+        private boolean batchSmelting = false;
+
+        private double lodNearDistance = 32;
+        private double lodFarDistance = 96;
+        private int lodMidInterval = 4;
+        private int lodFarInterval = 16;
 
         private Set<AllowedInput> allowedInputs = new HashSet<>();
         private boolean restrictInputs = false;
@@ -352,6 +419,18 @@ public class FurnaceType {
         public Builder bellowsInstantBoost(double boost) { this.bellowsInstantBoost = clamp(boost, 0.0, 1.0); return this; }
         public Builder badOutputThresholdMs(long ms) { this.badOutputThresholdMs = Math.max(1000, ms); return this; }
         public Builder minIdealRatio(double ratio) { this.minIdealRatio = clamp(ratio, 0.1, 0.9); return this; }
+        public Builder batchSmelting(boolean batch) { this.batchSmelting = batch; return this; }
+
+        public Builder lodDistances(double near, double far) {
+            this.lodNearDistance = Math.max(0, Math.min(near, far));
+            this.lodFarDistance = Math.max(near, far);
+            return this;
+        }
+        public Builder lodIntervals(int mid, int far) {
+            this.lodMidInterval = Math.max(1, mid);
+            this.lodFarInterval = Math.max(this.lodMidInterval, far);
+            return this;
+        }
 
         public Builder restrictInputs(boolean restrict) { this.restrictInputs = restrict; return this; }
         public Builder allowedInputs(Set<AllowedInput> inputs) {
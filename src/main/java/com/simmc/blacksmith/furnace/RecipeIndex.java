@@ -0,0 +1,161 @@
+package com.simmc.blacksmith.furnace;
+
+import com.simmc.blacksmith.items.ItemKey;
+import org.bukkit.Material;
+
+import java.util.*;
+
+/**
+ * Ingredient index over a furnace type's recipes, built once at load.
+ * Maps each ingredient to the recipes that use it, so a lookup only tests
+ * recipes whose ingredients are all present in the slots.
+ */
+final class RecipeIndex {
+
+    private final int recipeCount;
+    private final int ingredientCount;
+
+    // Ingredient index -> recipe indices using it
+    private final int[][] recipesByIngredient;
+    // Distinct ingredients each recipe needs
+    private final int[] ingredientsPerRecipe;
+    // Recipes without inputs are always candidates
+    private final BitSet alwaysCandidates;
+
+    // Lookup from resolved item keys to ingredient indices
+    private final Map<Material, int[]> vanillaIngredients;
+    private final Map<String, Map<String, int[]>> customIngredients;
+
+    RecipeIndex(List<FurnaceRecipe> recipes) {
+        this.recipeCount = recipes.size();
+        this.ingredientsPerRecipe = new int[recipeCount];
+        this.alwaysCandidates = new BitSet(recipeCount);
+
+        Map<String, Integer> ingredientIds = new HashMap<>();
+        Map<Integer, List<Integer>> users = new HashMap<>();
+        Map<Material, Set<Integer>> vanilla = new EnumMap<>(Material.class);
+        Map<String, Map<String, Set<Integer>>> custom = new HashMap<>();
+
+        for (int r = 0; r < recipeCount; r++) {
+            Set<Integer> needed = new HashSet<>();
+
+            for (FurnaceRecipe.Ingredient input : recipes.get(r).getIngredients()) {
+                String name = input.type() + ":" + input.normalizedId();
+
+                Integer ingredient = ingredientIds.get(name);
+                if (ingredient == null) {
+                    ingredient = ingredientIds.size();
+                    ingredientIds.put(name, ingredient);
+                    register(ingredient, input, vanilla, custom);
+                }
+                needed.add(ingredient);
+            }
+
+            ingredientsPerRecipe[r] = needed.size();
+            if (needed.isEmpty()) {
+                alwaysCandidates.set(r);
+            }
+            for (int ingredient : needed) {
+                users.computeIfAbsent(ingredient, k -> new ArrayList<>()).add(r);
+            }
+        }
+
+        this.ingredientCount = ingredientIds.size();
+        this.recipesByIngredient = new int[ingredientCount][];
+        for (int i = 0; i < ingredientCount; i++) {
+            recipesByIngredient[i] = toArray(users.getOrDefault(i, List.of()));
+        }
+
+        this.vanillaIngredients = new EnumMap<>(Material.class);
+        vanilla.forEach((material, ids) -> vanillaIngredients.put(material, toArray(ids)));
+
+        this.customIngredients = new HashMap<>();
+        custom.forEach((type, byId) -> {
+            Map<String, int[]> compiled = new HashMap<>();
+            byId.forEach((id, ids) -> compiled.put(id, toArray(ids)));
+            customIngredients.put(type, compiled);
+        });
+    }
+
+    private static void register(int ingredient, FurnaceRecipe.Ingredient input,
+                                 Map<Material, Set<Integer>> vanilla,
+                                 Map<String, Map<String, Set<Integer>>> custom) {
+        if (input.isVanilla()) {
+            // Vanilla ids were resolved to every material they accept when the recipe compiled
+            for (Material material : input.materials()) {
+                vanilla.computeIfAbsent(material, k -> new HashSet<>()).add(ingredient);
+            }
+        } else {
+            custom.computeIfAbsent(input.type(), k -> new HashMap<>())
+                    .computeIfAbsent(input.normalizedId(), k -> new HashSet<>())
+                    .add(ingredient);
+        }
+    }
+
+    /**
+     * Normalizes a resolved item id the way recipe ingredients store theirs.
+     */
+    private static String normalizeId(String type, String id) {
+        String lower = id.toLowerCase();
+        if ("craftengine".equals(type)) {
+            int colon = lower.indexOf(':');
+            return colon >= 0 ? lower.substring(colon + 1) : lower;
+        }
+        return lower;
+    }
+
+    private static int[] toArray(Collection<Integer> values) {
+        int[] array = new int[values.size()];
+        int i = 0;
+        for (int value : values) {
+            array[i++] = value;
+        }
+        Arrays.sort(array);
+        return array;
+    }
+
+    // ==================== LOOKUP ====================
+
+    /**
+     * Returns the recipes whose ingredients all appear among the keys,
+     * as a bit set of recipe indices in declaration order.
+     */
+    BitSet candidates(ItemKey[] keys) {
+        BitSet result = (BitSet) alwaysCandidates.clone();
+        if (keys == null || ingredientCount == 0) return result;
+
+        boolean[] present = new boolean[ingredientCount];
+        int[] found = new int[recipeCount];
+
+        for (ItemKey key : keys) {
+            if (key == null) continue;
+
+            // Custom items also satisfy vanilla inputs of their base material
+            collect(vanillaIngredients.get(key.material()), present, found, result);
+
+            if (!key.isVanilla()) {
+                Map<String, int[]> byId = customIngredients.get(key.type());
+                if (byId != null) {
+                    collect(byId.get(normalizeId(key.type(), key.id())), present, found, result);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private void collect(int[] ingredients, boolean[] present, int[] found, BitSet result) {
+        if (ingredients == null) return;
+
+        for (int ingredient : ingredients) {
+            if (present[ingredient]) continue;
+            present[ingredient] = true;
+
+            for (int recipe : recipesByIngredient[ingredient]) {
+                if (++found[recipe] == ingredientsPerRecipe[recipe]) {
+                    result.set(recipe);
+                }
+            }
+        }
+    }
+}
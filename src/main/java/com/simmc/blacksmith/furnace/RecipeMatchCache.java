@@ -1,171 +1,185 @@
 package com.simmc.blacksmith.furnace;
 
+import com.simmc.blacksmith.items.ItemKey;
 import com.simmc.blacksmith.items.ItemProviderRegistry;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
 
-import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.*;
 
 /**
- * Cache for furnace recipe matching results.
+ * Bounded cache for furnace recipe matching results, shared by all furnaces.
+ * Keys are content fingerprints - furnace type plus resolved item keys and amounts -
+ * so furnaces holding the same stacks resolve to a single match computation.
+ *
+ * Thread-safe; async smelting workers use it too.
  */
-
 public class RecipeMatchCache {
 
-    private static final long DEFAULT_EXPIRATION_MS = 5000;
-    private static final long CLEANUP_INTERVAL_MS = 30000;
+    private static final int DEFAULT_MAX_ENTRIES = 1024;
+
+    private final int maxEntries;
+    private final LinkedHashMap<MatchKey, FurnaceRecipe> cache;
+
+    // Bumped by clear(), so results remembered elsewhere can tell they are stale
+    private volatile long generation;
 
-    private final Map<String, CachedMatch> cache;
-    private final long cacheExpirationMs;
-    private volatile long lastCleanupTime;
+    private long hits;
+    private long misses;
+    private long evictions;
 
     public RecipeMatchCache() {
-        this(DEFAULT_EXPIRATION_MS);
+        this(DEFAULT_MAX_ENTRIES);
     }
 
-    public RecipeMatchCache(long expirationMs) {
-        this.cache = new ConcurrentHashMap<>();
-        this.cacheExpirationMs = Math.max(1000, expirationMs);
-        this.lastCleanupTime = System.currentTimeMillis();
+    public RecipeMatchCache(int maxEntries) {
+        this.maxEntries = Math.max(16, maxEntries);
+        // Access order - the eldest entry is the least recently used
+        this.cache = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<MatchKey, FurnaceRecipe> eldest) {
+                if (size() > RecipeMatchCache.this.maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
     }
 
     // ==================== PUBLIC API ====================
 
     /**
-     * Gets a cached recipe match, or performs matching if not cached/expired.
+     * Resolves the slots to item keys and finds the matching recipe.
+     * Must be called on the main thread, since resolving touches providers.
      */
-    public Optional<FurnaceRecipe> getCachedMatch(String furnaceTypeId, ItemStack[] inputs,
-                                                  FurnaceType type, ItemProviderRegistry registry) {
-        maybeCleanup();
+    public FurnaceRecipe findMatch(FurnaceType type, ItemStack[] inputs, ItemProviderRegistry registry) {
+        if (inputs == null || registry == null) return null;
 
-        String cacheKey = generateCacheKey(furnaceTypeId, inputs);
-        CachedMatch cached = cache.get(cacheKey);
+        ItemKey[] keys = new ItemKey[inputs.length];
+        int[] amounts = new int[inputs.length];
 
-        if (cached != null && !cached.isExpired()) {
-            return Optional.ofNullable(cached.recipe);
+        for (int i = 0; i < inputs.length; i++) {
+            ItemStack item = inputs[i];
+            if (item == null || item.getType().isAir()) continue;
+            keys[i] = registry.resolve(item);
+            amounts[i] = item.getAmount();
         }
 
-        // Cache miss or expired
-        FurnaceRecipe match = type.findMatchingRecipe(inputs, registry);
-        cache.put(cacheKey, new CachedMatch(match, System.currentTimeMillis() + cacheExpirationMs));
-
-        return Optional.ofNullable(match);
-    }
-
-    /**
-     * Invalidates all cached entries for a specific furnace type.
-     */
-    public void invalidate(String furnaceTypeId) {
-        String prefix = furnaceTypeId + ":";
-        cache.keySet().removeIf(key -> key.startsWith(prefix));
+        return findMatch(type, keys, amounts);
     }
 
     /**
-     * Invalidates a specific cache entry.
+     * Finds the matching recipe for already resolved slots.
+     * Safe to call from any thread.
      */
-    public void invalidateSpecific(String furnaceTypeId, ItemStack[] inputs) {
-        cache.remove(generateCacheKey(furnaceTypeId, inputs));
-    }
-
-    /**
-     * Clears all cached entries.
-     */
-    public void clear() {
-        cache.clear();
-    }
-
-    /**
-     * Manually triggers cleanup of expired entries.
-     */
-    public void cleanup() {
-        long now = System.currentTimeMillis();
-        cache.entrySet().removeIf(entry -> entry.getValue().isExpired(now));
-        lastCleanupTime = now;
-    }
-
-    // ==================== CACHE KEY GENERATION ====================
-
-    private String generateCacheKey(String furnaceTypeId, ItemStack[] inputs) {
-        StringBuilder sb = new StringBuilder(64);
-        sb.append(furnaceTypeId).append(':');
-
-        if (inputs == null) return sb.toString();
-
-        for (ItemStack item : inputs) {
-            if (item != null && !item.getType().isAir()) {
-                appendItemKey(sb, item);
+    public FurnaceRecipe findMatch(FurnaceType type, ItemKey[] keys, int[] amounts) {
+        MatchKey key = MatchKey.of(type, keys, amounts);
+
+        synchronized (this) {
+            FurnaceRecipe cached = cache.get(key);
+            if (cached != null || cache.containsKey(key)) {
+                hits++;
+                return cached;
             }
+            misses++;
         }
 
-        return sb.toString();
-    }
-
-    private void appendItemKey(StringBuilder sb, ItemStack item) {
-        sb.append(item.getType().name())
-                .append('-')
-                .append(item.getAmount());
+        // Computed outside the lock; a racing duplicate just stores the same answer
+        FurnaceRecipe match = type.findMatchingRecipe(keys, amounts);
 
-        // Include custom model data for custom items
-        if (item.hasItemMeta()) {
-            ItemMeta meta = item.getItemMeta();
-            if (meta != null && meta.hasCustomModelData()) {
-                sb.append("-cmd").append(meta.getCustomModelData());
-            }
+        synchronized (this) {
+            cache.put(key, match);
         }
-
-        sb.append('|');
+        return match;
     }
 
-    // ==================== MAINTENANCE ====================
-
-    private void maybeCleanup() {
-        long now = System.currentTimeMillis();
-        if (now - lastCleanupTime > CLEANUP_INTERVAL_MS) {
-            cleanup();
-        }
+    /**
+     * Clears all cached entries. Called on reload, when recipes may have changed.
+     */
+    public synchronized void clear() {
+        cache.clear();
+        generation++;
     }
 
+    public long getGeneration() { return generation; }
+
     // ==================== STATISTICS ====================
 
-    public int size() {
+    public synchronized int size() {
         return cache.size();
     }
 
-    public CacheStats getStats() {
-        long now = System.currentTimeMillis();
-        int total = cache.size();
-        long expired = cache.values().stream()
-                .filter(c -> c.isExpired(now))
-                .count();
-        return new CacheStats(total, (int) expired, total - (int) expired);
+    public synchronized CacheStats getStats() {
+        return new CacheStats(cache.size(), maxEntries, hits, misses, evictions);
     }
 
     // ==================== INNER TYPES ====================
 
-    private static class CachedMatch {
-        final FurnaceRecipe recipe;
-        final long expirationTime;
+    /**
+     * Order-independent fingerprint of a furnace's inputs.
+     * Identical keys are merged and sorted, so slot layout doesn't split entries.
+     */
+    private static final class MatchKey {
+        private final FurnaceType type;
+        private final ItemKey[] keys;
+        private final int[] amounts;
+        private final int hash;
+
+        private MatchKey(FurnaceType type, ItemKey[] keys, int[] amounts) {
+            this.type = type;
+            this.keys = keys;
+            this.amounts = amounts;
+            this.hash = 31 * (31 * System.identityHashCode(type) + Arrays.hashCode(keys)) + Arrays.hashCode(amounts);
+        }
+
+        static MatchKey of(FurnaceType type, ItemKey[] slotKeys, int[] slotAmounts) {
+            Map<ItemKey, Integer> merged = new HashMap<>();
+            for (int i = 0; i < slotKeys.length; i++) {
+                if (slotKeys[i] != null) {
+                    merged.merge(slotKeys[i], slotAmounts[i], Integer::sum);
+                }
+            }
+
+            List<Map.Entry<ItemKey, Integer>> entries = new ArrayList<>(merged.entrySet());
+            entries.sort(Comparator.comparing((Map.Entry<ItemKey, Integer> e) -> e.getKey().type())
+                    .thenComparing(e -> e.getKey().id())
+                    .thenComparing(e -> e.getKey().material()));
 
-        CachedMatch(FurnaceRecipe recipe, long expirationTime) {
-            this.recipe = recipe;
-            this.expirationTime = expirationTime;
+            ItemKey[] keys = new ItemKey[entries.size()];
+            int[] amounts = new int[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                keys[i] = entries.get(i).getKey();
+                amounts[i] = entries.get(i).getValue();
+            }
+            return new MatchKey(type, keys, amounts);
         }
 
-        boolean isExpired() {
-            return isExpired(System.currentTimeMillis());
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof MatchKey other)) return false;
+            // Types are compared by identity - a reload creates new ones
+            return type == other.type && hash == other.hash
+                    && Arrays.equals(keys, other.keys) && Arrays.equals(amounts, other.amounts);
         }
 
-        boolean isExpired(long now) {
-            return now > expirationTime;
+        @Override
+        public int hashCode() {
+            return hash;
         }
     }
 
-    public record CacheStats(int total, int expired, int valid) {
+    public record CacheStats(int size, int maxSize, long hits, long misses, long evictions) {
+
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+
         @Override
         public String toString() {
-            return String.format("Cache[total=%d, valid=%d, expired=%d]", total, valid, expired);
+            return String.format("Cache[size=%d/%d, hits=%d, misses=%d, evictions=%d, hitRate=%.1f%%]",
+                    size, maxSize, hits, misses, evictions, hitRate() * 100);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,159 @@
+package com.simmc.blacksmith.furnace;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel: four levels of 64 slots, each level 64 times
+ * coarser than the one below. Scheduling and cancelling are O(1); advancing
+ * costs one slot per elapsed tick plus a cascade every 64 ticks. Items far
+ * in the future sit in coarse slots and move down as their time approaches.
+ *
+ * Each item has at most one pending deadline. Not thread-safe - main thread only.
+ */
+final class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    // Farthest deadline one placement can express; later ones are re-placed when they cascade
+    private static final long MAX_SPAN = 1L << (SLOT_BITS * LEVELS);
+
+    private final long tickMs;
+    private final List<List<Entry<T>>> slots;
+    private final Map<T, Entry<T>> entries;
+    private long currentTick;
+
+    TimingWheel(long tickMs, long nowMs) {
+        this.tickMs = Math.max(1, tickMs);
+        this.slots = new ArrayList<>(LEVELS * SLOTS);
+        for (int i = 0; i < LEVELS * SLOTS; i++) {
+            slots.add(new ArrayList<>());
+        }
+        this.entries = new HashMap<>();
+        this.currentTick = nowMs / this.tickMs;
+    }
+
+    /**
+     * Schedules the item at an absolute time, replacing any earlier deadline.
+     * Deadlines that already passed fire on the next advance.
+     */
+    void schedule(T item, long dueMs) {
+        cancel(item);
+
+        long dueTick = Math.max(currentTick + 1, Math.floorDiv(dueMs + tickMs - 1, tickMs));
+        Entry<T> entry = new Entry<>(item, dueTick);
+        entries.put(item, entry);
+        place(entry);
+    }
+
+    /**
+     * @return true if the item had a pending deadline
+     */
+    boolean cancel(T item) {
+        Entry<T> entry = entries.remove(item);
+        if (entry == null) return false;
+        // Removed lazily when its slot is next visited
+        entry.cancelled = true;
+        return true;
+    }
+
+    boolean isScheduled(T item) {
+        return entries.containsKey(item);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    long getTickMs() {
+        return tickMs;
+    }
+
+    /**
+     * Moves time forward to {@code nowMs}, handing every item whose deadline
+     * passed to {@code expired} in deadline order (per tick). The consumer may reschedule.
+     */
+    void advance(long nowMs, Consumer<T> expired) {
+        long target = nowMs / tickMs;
+
+        while (currentTick < target) {
+            currentTick++;
+
+            // Cascade from the coarsest level whose slot boundary was crossed
+            int level = 1;
+            while (level < LEVELS && (currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                level++;
+            }
+            for (int l = level - 1; l >= 1; l--) {
+                cascade(l);
+            }
+
+            expire(expired);
+
+            if (entries.isEmpty()) {
+                // Nothing pending - jump straight to the target
+                currentTick = target;
+            }
+        }
+    }
+
+    private void cascade(int level) {
+        List<Entry<T>> slot = slot(level, (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK));
+        if (slot.isEmpty()) return;
+
+        List<Entry<T>> moving = new ArrayList<>(slot);
+        slot.clear();
+        for (Entry<T> entry : moving) {
+            if (!entry.cancelled) place(entry);
+        }
+    }
+
+    private void expire(Consumer<T> expired) {
+        List<Entry<T>> slot = slot(0, (int) (currentTick & SLOT_MASK));
+        if (slot.isEmpty()) return;
+
+        List<Entry<T>> due = new ArrayList<>(slot);
+        slot.clear();
+        for (Entry<T> entry : due) {
+            if (entry.cancelled) continue;
+            if (entry.dueTick > currentTick) {
+                // Beyond MAX_SPAN when placed - keep moving it down
+                place(entry);
+                continue;
+            }
+            entries.remove(entry.item);
+            expired.accept(entry.item);
+        }
+    }
+
+    private void place(Entry<T> entry) {
+        long delta = Math.min(entry.dueTick - currentTick, MAX_SPAN - 1);
+        long at = currentTick + Math.max(0, delta);
+
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        slot(level, (int) ((at >>> (SLOT_BITS * level)) & SLOT_MASK)).add(entry);
+    }
+
+    private List<Entry<T>> slot(int level, int index) {
+        return slots.get(level * SLOTS + index);
+    }
+
+    private static final class Entry<T> {
+        private final T item;
+        private final long dueTick;
+        private boolean cancelled;
+
+        Entry(T item, long dueTick) {
+            this.item = item;
+            this.dueTick = dueTick;
+        }
+    }
+}
@@ -5,8 +5,6 @@ import org.bukkit.plugin.java.JavaPlugin;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class CraftEngineHook {
 
@@ -21,14 +19,9 @@ public class CraftEngineHook {
     private boolean isStaticBuild;
     private boolean isStaticGetId;
 
-    // Item ID cache to reduce reflection calls
-    private final Map<Integer, String> itemIdCache;
-    private static final int MAX_CACHE_SIZE = 500;
-
     public CraftEngineHook(JavaPlugin plugin) {
         this.plugin = plugin;
         this.available = plugin.getServer().getPluginManager().getPlugin("CraftEngine") != null;
-        this.itemIdCache = new ConcurrentHashMap<>();
         this.initialized = false;
     }
 
@@ -249,13 +242,6 @@ public class CraftEngineHook {
             return null;
         }
 
-        // Check cache first
-        int hashCode = System.identityHashCode(item);
-        String cached = itemIdCache.get(hashCode);
-        if (cached != null) {
-            return cached.isEmpty() ? null : cached;
-        }
-
         try {
             Object result;
             if (isStaticGetId) {
@@ -266,14 +252,7 @@ public class CraftEngineHook {
                 return null;
             }
 
-            String id = extractString(result);
-
-            // Cache result (empty string for null)
-            if (itemIdCache.size() < MAX_CACHE_SIZE) {
-                itemIdCache.put(hashCode, id != null ? id : "");
-            }
-
-            return id;
+            return extractString(result);
         } catch (Exception e) {
             return null;
         }
@@ -332,8 +311,4 @@ public class CraftEngineHook {
     public boolean isCraftEngineItem(ItemStack item) {
         return getItemId(item) != null;
     }
-
-    public void clearCache() {
-        itemIdCache.clear();
-    }
 }
\ No newline at end of file
@@ -5,8 +5,6 @@ import org.bukkit.plugin.java.JavaPlugin;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class NexoHook {
 
@@ -21,14 +19,9 @@ public class NexoHook {
     private boolean isStaticGetItem;
     private boolean isStaticGetId;
 
-    // Item ID cache
-    private final Map<Integer, String> itemIdCache;
-    private static final int MAX_CACHE_SIZE = 500;
-
     public NexoHook(JavaPlugin plugin) {
         this.plugin = plugin;
         this.available = plugin.getServer().getPluginManager().getPlugin("Nexo") != null;
-        this.itemIdCache = new ConcurrentHashMap<>();
         this.initialized = false;
     }
 
@@ -150,13 +143,6 @@ public class NexoHook {
             return null;
         }
 
-        // Check cache
-        int hashCode = System.identityHashCode(item);
-        String cached = itemIdCache.get(hashCode);
-        if (cached != null) {
-            return cached.isEmpty() ? null : cached;
-        }
-
         try {
             Object result;
             if (isStaticGetId) {
@@ -167,14 +153,7 @@ public class NexoHook {
                 return null;
             }
 
-            String id = extractString(result);
-
-            // Cache result
-            if (itemIdCache.size() < MAX_CACHE_SIZE) {
-                itemIdCache.put(hashCode, id != null ? id : "");
-            }
-
-            return id;
+            return extractString(result);
         } catch (Exception e) {
             return null;
         }
@@ -212,8 +191,4 @@ public class NexoHook {
     public boolean isNexoItem(ItemStack item) {
         return getItemId(item) != null;
     }
-
-    public void clearCache() {
-        itemIdCache.clear();
-    }
 }
\ No newline at end of file
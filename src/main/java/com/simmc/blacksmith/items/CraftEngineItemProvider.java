@@ -32,6 +32,14 @@ public class CraftEngineItemProvider implements ItemProvider {
         return craftEngineHook.matches(item, id);
     }
 
+    @Override
+    public String getItemId(ItemStack item) {
+        if (!isAvailable()) {
+            return null;
+        }
+        return craftEngineHook.getItemId(item);
+    }
+
     @Override
     public boolean isAvailable() {
         return craftEngineHook != null && craftEngineHook.isAvailable();
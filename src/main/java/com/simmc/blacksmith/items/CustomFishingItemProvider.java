@@ -45,5 +45,14 @@ public class CustomFishingItemProvider implements ItemProvider {
 
         return hook.matches(item, id);
     }
+
+    @Override
+    public String getItemId(ItemStack item) {
+        if (!isAvailable() || item == null) {
+            return null;
+        }
+
+        return hook.getItemId(item);
+    }
 }
 
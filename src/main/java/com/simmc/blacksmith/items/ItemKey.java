@@ -0,0 +1,56 @@
+package com.simmc.blacksmith.items;
+
+import org.bukkit.Material;
+
+/**
+ * Resolved identity of an item: owning provider, its id and the base material.
+ * Immutable, so it can be matched off the main thread.
+ */
+public record ItemKey(String type, String id, Material material) {
+
+    public static ItemKey vanilla(Material material) {
+        return new ItemKey("minecraft", material.name().toLowerCase(), material);
+    }
+
+    public boolean isVanilla() {
+        return "minecraft".equals(type);
+    }
+
+    /**
+     * Checks this key against a recipe/config reference, following the same
+     * rules as the providers' matches() without touching an ItemStack.
+     */
+    public boolean matches(String refType, String refId) {
+        if (refType == null || refId == null) return false;
+
+        String resolved = ItemProviderRegistry.normalizeType(refType);
+        if ("minecraft".equals(resolved)) {
+            return matchesMaterial(material, refId);
+        }
+
+        if (!resolved.equals(type)) return false;
+        if (id.equalsIgnoreCase(refId)) return true;
+
+        // CraftEngine ids match with or without namespace
+        return "craftengine".equals(type) && stripNamespace(id).equalsIgnoreCase(stripNamespace(refId));
+    }
+
+    /**
+     * Vanilla material comparison, tolerant of case, dashes, spaces and underscores.
+     */
+    public static boolean matchesMaterial(Material material, String id) {
+        if (material == null || id == null) return false;
+
+        String materialName = material.name();
+        String target = id.toUpperCase().replace("-", "_").replace(" ", "_");
+        if (target.startsWith("MINECRAFT:")) target = target.substring(10);
+
+        if (materialName.equals(target)) return true;
+        return materialName.replace("_", "").equals(target.replace("_", ""));
+    }
+
+    private static String stripNamespace(String value) {
+        int colon = value.indexOf(':');
+        return colon >= 0 ? value.substring(colon + 1) : value;
+    }
+}
@@ -0,0 +1,145 @@
+package com.simmc.blacksmith.items;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of resolved item identities.
+ *
+ * Entries are keyed on stack identity and checked against the material and
+ * amount they were resolved with, so a hit reads no meta at all. Stacks are
+ * held weakly and dropped once collected. A stack whose meta is replaced in
+ * place keeps its old entry until the cache is cleared.
+ */
+public class ItemKeyCache {
+
+    private static final int DEFAULT_MAX_ENTRIES = 2048;
+
+    private final int maxEntries;
+    private final LinkedHashMap<StackRef, Entry> cache;
+    private final ReferenceQueue<ItemStack> collected;
+    // Reused for lookups so a hit allocates nothing; guarded by 'this'
+    private final Probe probe;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    ItemKeyCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    ItemKeyCache(int maxEntries) {
+        this.maxEntries = Math.max(16, maxEntries);
+        this.collected = new ReferenceQueue<>();
+        this.probe = new Probe();
+        // Access order - the eldest entry is the least recently used
+        this.cache = new LinkedHashMap<>(128, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StackRef, Entry> eldest) {
+                if (size() > ItemKeyCache.this.maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    synchronized ItemKey get(ItemStack stack) {
+        expungeCollected();
+
+        probe.stack = stack;
+        Entry entry = cache.get(probe);
+        probe.stack = null;
+
+        if (entry != null && entry.material() == stack.getType() && entry.amount() == stack.getAmount()) {
+            hits++;
+            return entry.key();
+        }
+        misses++;
+        return null;
+    }
+
+    synchronized void put(ItemStack stack, ItemKey key) {
+        cache.put(new StackRef(stack, collected), new Entry(key, stack.getType(), stack.getAmount()));
+    }
+
+    synchronized void clear() {
+        cache.clear();
+        expungeCollected();
+    }
+
+    synchronized CacheStats getStats() {
+        expungeCollected();
+        return new CacheStats(cache.size(), maxEntries, hits, misses, evictions);
+    }
+
+    private void expungeCollected() {
+        Reference<? extends ItemStack> ref;
+        while ((ref = collected.poll()) != null) {
+            cache.remove(ref);
+        }
+    }
+
+    // ==================== INNER TYPES ====================
+
+    private record Entry(ItemKey key, Material material, int amount) {}
+
+    /**
+     * Weak identity key. A cleared reference only equals itself, which is
+     * all removal needs.
+     */
+    private static final class StackRef extends WeakReference<ItemStack> {
+        private final int hash;
+
+        StackRef(ItemStack stack, ReferenceQueue<ItemStack> queue) {
+            super(stack, queue);
+            this.hash = System.identityHashCode(stack);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof StackRef other)) return false;
+            ItemStack stack = get();
+            return stack != null && stack == other.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Lookup stand-in; HashMap compares it against stored keys with its own equals.
+     */
+    private static final class Probe {
+        private ItemStack stack;
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof StackRef ref && ref.get() == stack;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(stack);
+        }
+    }
+
+    public record CacheStats(int size, int maxSize, long hits, long misses, long evictions) {
+
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
@@ -10,5 +10,12 @@ public interface ItemProvider {
 
     boolean matches(ItemStack item, String id);
 
+    /**
+     * Gets this provider's id for an item, or null if the item isn't one of ours.
+     */
+    default String getItemId(ItemStack item) {
+        return null;
+    }
+
     boolean isAvailable();
 }
\ No newline at end of file
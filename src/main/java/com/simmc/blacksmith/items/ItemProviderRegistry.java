@@ -7,13 +7,15 @@ import com.simmc.blacksmith.integration.SMCCoreHook;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class ItemProviderRegistry {
 
     private final JavaPlugin plugin;
     private final Map<String, ItemProvider> providers;
+    // One reflective lookup per stack change, shared by every matches() caller
+    private final ItemKeyCache keyCache;
 
     // Type aliases for convenience (e.g., "ce" -> "craftengine")
     private static final Map<String, String> TYPE_ALIASES = Map.of(
@@ -27,7 +29,9 @@ public class ItemProviderRegistry {
     public ItemProviderRegistry(JavaPlugin plugin, SMCCoreHook smcHook, CraftEngineHook craftEngineHook,
                                 NexoHook nexoHook, CustomFishingHook customFishingHook) {
         this.plugin = plugin;
-        this.providers = new HashMap<>();
+        // Insertion order decides which provider claims an item in resolve()
+        this.providers = new LinkedHashMap<>();
+        this.keyCache = new ItemKeyCache();
 
         // Always register minecraft provider
         registerProvider(new MinecraftItemProvider());
@@ -62,6 +66,13 @@ public class ItemProviderRegistry {
      * Resolves type aliases to canonical type names.
      */
     private String resolveType(String type) {
+        return normalizeType(type);
+    }
+
+    /**
+     * Thread-safe alias resolution, usable off the main thread.
+     */
+    public static String normalizeType(String type) {
         if (type == null) return null;
         String lower = type.toLowerCase();
         return TYPE_ALIASES.getOrDefault(lower, lower);
@@ -100,6 +111,11 @@ public class ItemProviderRegistry {
         }
     }
 
+    /**
+     * Checks an item against a provider type and id.
+     * Custom items are compared by their cached resolved key, so repeated
+     * checks of the same stack don't go back to the provider.
+     */
     public boolean matches(ItemStack item, String type, String id) {
         if (item == null || type == null || id == null) {
             return false;
@@ -111,7 +127,66 @@ public class ItemProviderRegistry {
             return false;
         }
 
-        return provider.matches(item, id);
+        // Vanilla matching only needs the material
+        if (provider instanceof MinecraftItemProvider) {
+            return provider.matches(item, id);
+        }
+
+        ItemKey key = resolve(item);
+        return key != null && resolvedType.equals(key.type()) && key.matches(resolvedType, id);
+    }
+
+    /**
+     * Resolves which provider owns an item and under what id.
+     * Custom providers are asked first; anything unclaimed is a vanilla item.
+     * Results are cached per stack instance until its material or amount changes.
+     */
+    public ItemKey resolve(ItemStack item) {
+        if (item == null || item.getType().isAir()) {
+            return null;
+        }
+
+        ItemKey cached = keyCache.get(item);
+        if (cached != null) {
+            return cached;
+        }
+
+        ItemKey key = resolveUncached(item);
+        keyCache.put(item, key);
+        return key;
+    }
+
+    private ItemKey resolveUncached(ItemStack item) {
+        for (ItemProvider provider : providers.values()) {
+            if (provider instanceof MinecraftItemProvider || !provider.isAvailable()) continue;
+
+            try {
+                String id = provider.getItemId(item);
+                if (id != null && !id.isEmpty()) {
+                    return new ItemKey(provider.getType().toLowerCase(), id, item.getType());
+                }
+            } catch (Exception e) {
+                plugin.getLogger().fine("Failed to resolve item via " + provider.getType() + ": " + e.getMessage());
+            }
+        }
+
+        return ItemKey.vanilla(item.getType());
+    }
+
+    /**
+     * Gets an item's id if it belongs to the given provider, otherwise null.
+     */
+    public String getItemId(ItemStack item, String type) {
+        ItemKey key = resolve(item);
+        return key != null && key.type().equals(resolveType(type)) ? key.id() : null;
+    }
+
+    public void clearCache() {
+        keyCache.clear();
+    }
+
+    public ItemKeyCache.CacheStats getCacheStats() {
+        return keyCache.getStats();
     }
 
     public boolean hasProvider(String type) {
@@ -32,6 +32,14 @@ public class NexoItemProvider implements ItemProvider {
         return nexoHook.matches(item, id);
     }
 
+    @Override
+    public String getItemId(ItemStack item) {
+        if (!isAvailable()) {
+            return null;
+        }
+        return nexoHook.getItemId(item);
+    }
+
     @Override
     public boolean isAvailable() {
         return nexoHook != null && nexoHook.isAvailable();
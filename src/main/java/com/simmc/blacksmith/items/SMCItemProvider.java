@@ -32,6 +32,14 @@ public class SMCItemProvider implements ItemProvider {
         return smcHook.matches(item, id);
     }
 
+    @Override
+    public String getItemId(ItemStack item) {
+        if (!isAvailable()) {
+            return null;
+        }
+        return smcHook.getItemId(item);
+    }
+
     @Override
     public boolean isAvailable() {
         return smcHook != null && smcHook.isAvailable();
@@ -8,7 +8,6 @@ import com.simmc.blacksmith.furnace.FurnaceInstance;
 import com.simmc.blacksmith.furnace.FurnaceManager;
 import com.simmc.blacksmith.furnace.FurnaceType;
 import com.simmc.blacksmith.integration.CraftEngineHook;
-import com.simmc.blacksmith.integration.SMCCoreHook;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
@@ -240,12 +239,9 @@ public class BellowsListener implements Listener {
         }
 
         // Check SMCCore items first
-        SMCCoreHook smcHook = plugin.getSmcCoreHook();
-        if (smcHook != null && smcHook.isAvailable()) {
-            String smcId = smcHook.getItemId(item);
-            if (smcId != null && !smcId.isEmpty()) {
-                return findBellowsBySmcId(bellowsConfig, smcId);
-            }
+        String smcId = plugin.getItemRegistry().getItemId(item, "smc");
+        if (smcId != null && !smcId.isEmpty()) {
+            return findBellowsBySmcId(bellowsConfig, smcId);
         }
 
         // Check vanilla items
@@ -12,7 +12,6 @@ import com.simmc.blacksmith.furnace.FurnaceInstance;
 import com.simmc.blacksmith.furnace.FurnaceManager;
 import com.simmc.blacksmith.furnace.FurnaceType;
 import com.simmc.blacksmith.integration.CraftEngineHook;
-import com.simmc.blacksmith.integration.SMCCoreHook;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Sound;
@@ -50,7 +49,6 @@ public class BlockInteractListener implements Listener {
     private final ConfigManager configManager;
 
     // Lazy-loaded hooks
-    private SMCCoreHook smcHook;
     private CraftEngineHook ceHook;
     private boolean hooksInitialized;
 
@@ -118,14 +116,10 @@ public class BlockInteractListener implements Listener {
             return false;
         }
 
-        ensureHooksInitialized();
-
-        if (smcHook != null && smcHook.isAvailable()) {
-            String smcId = smcHook.getItemId(item);
-            if (smcId != null && !smcId.isEmpty()) {
-                return bellowsConfig.getAllTypes().stream()
-                        .anyMatch(t -> t.isSMCCore() && t.itemId().equalsIgnoreCase(smcId));
-            }
+        String smcId = furnaceManager.getItemRegistry().getItemId(item, "smc");
+        if (smcId != null && !smcId.isEmpty()) {
+            return bellowsConfig.getAllTypes().stream()
+                    .anyMatch(t -> t.isSMCCore() && t.itemId().equalsIgnoreCase(smcId));
         }
 
         String materialName = item.getType().name();
@@ -151,21 +145,17 @@ public class BlockInteractListener implements Listener {
     private Optional<HammerConfig.HammerType> getHammerType(ItemStack item) {
         if (item == null || item.getType().isAir()) return Optional.empty();
 
-        ensureHooksInitialized();
-
         HammerConfig hammerConfig = configManager.getHammerConfig();
         if (hammerConfig == null) return Optional.empty();
 
         // Check SMCCore items first
-        if (smcHook != null && smcHook.isAvailable()) {
-            String smcId = smcHook.getItemId(item);
-            if (smcId != null && !smcId.isEmpty()) {
-                Optional<HammerConfig.HammerType> result = hammerConfig.getAllHammerTypes().values().stream()
-                        .filter(t -> t.type().equalsIgnoreCase("smc") && t.itemId().equalsIgnoreCase(smcId))
-                        .findFirst();
-                if (result.isPresent()) {
-                    return result;
-                }
+        String smcId = furnaceManager.getItemRegistry().getItemId(item, "smc");
+        if (smcId != null && !smcId.isEmpty()) {
+            Optional<HammerConfig.HammerType> result = hammerConfig.getAllHammerTypes().values().stream()
+                    .filter(t -> t.type().equalsIgnoreCase("smc") && t.itemId().equalsIgnoreCase(smcId))
+                    .findFirst();
+            if (result.isPresent()) {
+                return result;
             }
         }
 
@@ -237,10 +227,7 @@ public class BlockInteractListener implements Listener {
     private boolean isHeatTool(ItemStack item) {
         if (item == null || item.getType().isAir()) return false;
 
-        ensureHooksInitialized();
-        if (smcHook == null || !smcHook.isAvailable()) return false;
-
-        String itemId = smcHook.getItemId(item);
+        String itemId = furnaceManager.getItemRegistry().getItemId(item, "smc");
         return HEAT_TOOL_ID.equalsIgnoreCase(itemId);
     }
 
@@ -494,7 +481,6 @@ public class BlockInteractListener implements Listener {
 
         SMCBlacksmith plugin = SMCBlacksmith.getInstance();
         if (plugin != null) {
-            smcHook = plugin.getSmcCoreHook();
             ceHook = plugin.getCraftEngineHook();
         }
     }
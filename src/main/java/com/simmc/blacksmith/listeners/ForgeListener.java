@@ -3,12 +3,13 @@ package com.simmc.blacksmith.listeners;
 import com.simmc.blacksmith.SMCBlacksmith;
 import com.simmc.blacksmith.config.HammerConfig;
 import com.simmc.blacksmith.forge.ForgeManager;
-import com.simmc.blacksmith.integration.SMCCoreHook;
+import com.simmc.blacksmith.forge.ForgePoint;
 import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Interaction;
 import org.bukkit.entity.Player;
+import org.bukkit.event.Cancellable;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
@@ -52,13 +53,7 @@ public class ForgeListener implements Listener {
         if (!(event.getEntity() instanceof Interaction)) return;
         if (!(event.getDamager() instanceof Player player)) return;
 
-        if (!forgeManager.hasActiveSession(player.getUniqueId())) return;
-
-        event.setCancelled(true);
-
-        if (!validateHammerAndHit(player, event.getEntity().getUniqueId())) {
-            return;
-        }
+        handleTargetClick(event, player, event.getEntity().getUniqueId());
     }
 
     /**
@@ -68,14 +63,43 @@ public class ForgeListener implements Listener {
     public void onInteractEntity(PlayerInteractEntityEvent event) {
         if (!(event.getRightClicked() instanceof Interaction)) return;
 
+        handleTargetClick(event, event.getPlayer(), event.getRightClicked().getUniqueId());
+    }
+
+    /**
+     * Routes a click on an Interaction entity. Entities that aren't live
+     * forge targets are left alone; clicks on another player's target are
+     * blocked but not scored.
+     */
+    private void handleTargetClick(Cancellable event, Player player, UUID hitboxId) {
+        UUID owner = forgeManager.getHitTargetOwner(hitboxId);
+        if (owner == null) return;
+
+        event.setCancelled(true);
+
+        if (!owner.equals(player.getUniqueId())) return;
+        validateHammerAndHit(player, hitboxId);
+    }
+
+    /**
+     * VIRTUAL: Left-click swing checked against the targets in line of sight.
+     * Swings at air arrive already cancelled, so cancelled events are included.
+     */
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onSwing(PlayerInteractEvent event) {
+        Action action = event.getAction();
+        if (action != Action.LEFT_CLICK_AIR && action != Action.LEFT_CLICK_BLOCK) return;
+        if (event.getHand() != EquipmentSlot.HAND) return;
+        if (!forgeManager.isVirtualTargets()) return;
+
         Player player = event.getPlayer();
-        if (!forgeManager.hasActiveSession(player.getUniqueId())) return;
+        ForgePoint point = forgeManager.findTargetInSight(player);
+        if (point == null) return;
 
         event.setCancelled(true);
 
-        if (!validateHammerAndHit(player, event.getRightClicked().getUniqueId())) {
-            return;
-        }
+        if (!checkHammer(player)) return;
+        forgeManager.processPointHit(player, point);
     }
 
     /**
@@ -83,6 +107,16 @@ public class ForgeListener implements Listener {
      * @return true if hit was processed
      */
     private boolean validateHammerAndHit(Player player, UUID hitboxId) {
+        if (!checkHammer(player)) return false;
+
+        forgeManager.processPointHit(player, hitboxId);
+        return true;
+    }
+
+    /**
+     * @return true if the player holds a hammer; otherwise tells them
+     */
+    private boolean checkHammer(Player player) {
         ItemStack heldItem = player.getInventory().getItemInMainHand();
 
         if (!isHammer(heldItem)) {
@@ -90,8 +124,6 @@ public class ForgeListener implements Listener {
             player.playSound(player.getLocation(), Sound.ENTITY_VILLAGER_NO, 0.8f, 1.0f);
             return false;
         }
-
-        forgeManager.processPointHit(player, hitboxId);
         return true;
     }
 
@@ -185,12 +217,9 @@ public class ForgeListener implements Listener {
         }
 
         // Check SMCCore items first
-        SMCCoreHook smcHook = plugin.getSmcCoreHook();
-        if (smcHook != null && smcHook.isAvailable()) {
-            String smcId = smcHook.getItemId(item);
-            if (smcId != null && !smcId.isEmpty()) {
-                return matchesHammerType(hammerConfig, "smc", smcId);
-            }
+        String smcId = plugin.getItemRegistry().getItemId(item, "smc");
+        if (smcId != null && !smcId.isEmpty()) {
+            return matchesHammerType(hammerConfig, "smc", smcId);
         }
 
         // Check vanilla items
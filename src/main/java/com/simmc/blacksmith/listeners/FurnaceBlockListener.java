@@ -1,7 +1,6 @@
 package com.simmc.blacksmith.listeners;
 
 import com.simmc.blacksmith.furnace.FurnaceManager;
-import org.bukkit.Location;
 import org.bukkit.block.Block;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -25,7 +24,7 @@ public class FurnaceBlockListener implements Listener {
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onBlockBreak(BlockBreakEvent event) {
-        handleBlockRemoval(event.getBlock().getLocation());
+        furnaceManager.removeFurnace(event.getBlock());
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
@@ -38,15 +37,9 @@ public class FurnaceBlockListener implements Listener {
         handleBlocksRemoval(event.blockList());
     }
 
-    private void handleBlockRemoval(Location location) {
-        if (furnaceManager.isFurnace(location)) {
-            furnaceManager.removeFurnace(location);
-        }
-    }
-
     private void handleBlocksRemoval(List<Block> blocks) {
         for (Block block : blocks) {
-            handleBlockRemoval(block.getLocation());
+            furnaceManager.removeFurnace(block);
         }
     }
 }
\ No newline at end of file
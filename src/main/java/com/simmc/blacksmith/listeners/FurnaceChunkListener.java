@@ -0,0 +1,30 @@
+package com.simmc.blacksmith.listeners;
+
+import com.simmc.blacksmith.furnace.FurnaceManager;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+
+/**
+ * Puts furnaces to sleep when their chunk unloads and wakes them on load.
+ */
+public class FurnaceChunkListener implements Listener {
+
+    private final FurnaceManager furnaceManager;
+
+    public FurnaceChunkListener(FurnaceManager furnaceManager) {
+        this.furnaceManager = furnaceManager;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        furnaceManager.handleChunkLoad(event.getChunk());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        furnaceManager.handleChunkUnload(event.getChunk());
+    }
+}
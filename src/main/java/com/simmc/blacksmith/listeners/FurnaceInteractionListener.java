@@ -6,7 +6,6 @@ import com.simmc.blacksmith.config.FurnaceConfig;
 import com.simmc.blacksmith.furnace.FurnaceInstance;
 import com.simmc.blacksmith.furnace.FurnaceManager;
 import com.simmc.blacksmith.furnace.FurnaceType;
-import com.simmc.blacksmith.integration.SMCCoreHook;
 import net.md_5.bungee.api.ChatMessageType;
 import net.md_5.bungee.api.chat.TextComponent;
 import org.bukkit.Location;
@@ -193,16 +192,13 @@ public class FurnaceInteractionListener implements Listener {
         if (item == null || item.getType().isAir()) return null;
 
         SMCBlacksmith plugin = SMCBlacksmith.getInstance();
-        SMCCoreHook smcHook = plugin.getSmcCoreHook();
 
         // Check SMCCore items first
-        if (smcHook != null && smcHook.isAvailable()) {
-            String smcId = smcHook.getItemId(item);
-            if (smcId != null && !smcId.isEmpty()) {
-                String key = "smc:" + smcId.toLowerCase();
-                Integer boost = bellowsHeatBoost.get(key);
-                if (boost != null) return boost;
-            }
+        String smcId = plugin.getItemRegistry().getItemId(item, "smc");
+        if (smcId != null && !smcId.isEmpty()) {
+            String key = "smc:" + smcId.toLowerCase();
+            Integer boost = bellowsHeatBoost.get(key);
+            if (boost != null) return boost;
         }
 
         // Check vanilla items
@@ -30,15 +30,14 @@ public class WorldListener implements Listener {
         World world = event.getWorld();
 
         try {
-            long furnaceCount = furnaceManager.getAllFurnaces().values().stream()
-                    .filter(f -> f.getLocation().getWorld() != null && f.getLocation().getWorld().equals(world))
-                    .count();
+            int furnaceCount = furnaceManager.getFurnaceCount(world);
 
             if (furnaceCount > 0) {
                 plugin.getLogger().info("World '" + world.getName() + "' unloading with " +
                         furnaceCount + " furnaces. Saving...");
-                furnaceManager.saveAll();
+                furnaceManager.saveWorld(world);
             }
+            furnaceManager.handleWorldUnload(world);
         } catch (Exception e) {
             plugin.getLogger().log(Level.WARNING, "Error handling world unload for " + world.getName(), e);
         }
@@ -47,7 +46,7 @@ public class WorldListener implements Listener {
     @EventHandler(priority = EventPriority.MONITOR)
     public void onWorldSave(WorldSaveEvent event) {
         try {
-            furnaceManager.saveAll();
+            furnaceManager.saveWorld(event.getWorld());
         } catch (Exception e) {
             plugin.getLogger().log(Level.WARNING, "Error saving furnaces during world save", e);
         }
@@ -0,0 +1,89 @@
+package com.simmc.blacksmith.util;
+
+import org.bukkit.Bukkit;
+import org.bukkit.boss.BarColor;
+import org.bukkit.boss.BarStyle;
+import org.bukkit.boss.BossBar;
+import org.bukkit.entity.Player;
+
+/**
+ * Boss bar wrapper that remembers what was last pushed and only sends
+ * fields that changed. Each Bukkit setter sends a packet, even for an
+ * unchanged value. Main thread only.
+ */
+public final class BossBarView {
+
+    // Progress is compared in 1/PROGRESS_STEPS increments - finer changes are invisible
+    private static final int PROGRESS_STEPS = 200;
+
+    private final BossBar bar;
+
+    private String title;
+    private BarColor color;
+    private int progressStep;
+    private boolean visible;
+
+    private BossBarView(BossBar bar, String title, BarColor color) {
+        this.bar = bar;
+        this.title = title;
+        this.color = color;
+        this.progressStep = quantize(bar.getProgress());
+        this.visible = bar.isVisible();
+    }
+
+    public static BossBarView create(String title, BarColor color, BarStyle style) {
+        return new BossBarView(Bukkit.createBossBar(title, color, style), title, color);
+    }
+
+    /**
+     * Pushes title, progress and color, skipping the ones that did not change.
+     */
+    public void update(String title, double progress, BarColor color) {
+        setTitle(title);
+        setProgress(progress);
+        setColor(color);
+    }
+
+    public void setTitle(String title) {
+        // Titles come from caches, so an unchanged title is usually the same instance
+        if (title == this.title || title.equals(this.title)) return;
+        this.title = title;
+        bar.setTitle(title);
+    }
+
+    public void setProgress(double progress) {
+        double clamped = Math.max(0, Math.min(1, progress));
+        int step = quantize(clamped);
+        if (step == progressStep) return;
+        progressStep = step;
+        bar.setProgress(clamped);
+    }
+
+    public void setColor(BarColor color) {
+        if (color == this.color) return;
+        this.color = color;
+        bar.setColor(color);
+    }
+
+    public void setVisible(boolean visible) {
+        if (visible == this.visible) return;
+        this.visible = visible;
+        bar.setVisible(visible);
+    }
+
+    public void addPlayer(Player player) {
+        bar.addPlayer(player);
+    }
+
+    public void removeAll() {
+        bar.removeAll();
+    }
+
+    public BossBar getBar() {
+        return bar;
+    }
+
+    private static int quantize(double progress) {
+        return (int) Math.round(progress * PROGRESS_STEPS);
+    }
+}
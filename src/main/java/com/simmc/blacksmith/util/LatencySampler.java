@@ -0,0 +1,49 @@
+package com.simmc.blacksmith.util;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the most recent latency samples in a ring buffer and reports
+ * percentiles over them. Recording is O(1); percentiles sort a copy, so
+ * they are meant for stats commands, not hot paths. Main thread only.
+ */
+public final class LatencySampler {
+
+    private final long[] samples;
+    private int next;
+    private int count;
+
+    public LatencySampler(int capacity) {
+        this.samples = new long[Math.max(16, capacity)];
+    }
+
+    public void record(long value) {
+        samples[next] = value;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) count++;
+    }
+
+    /**
+     * @param fractions percentiles as fractions, e.g. 0.5, 0.95, 0.99
+     * @return one value per fraction, or zeros if nothing was recorded
+     */
+    public long[] percentiles(double... fractions) {
+        long[] result = new long[fractions.length];
+        if (count == 0) return result;
+
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        for (int i = 0; i < fractions.length; i++) {
+            int index = (int) Math.ceil(fractions[i] * count) - 1;
+            result[i] = sorted[Math.max(0, Math.min(count - 1, index))];
+        }
+        return result;
+    }
+
+    public int size() { return count; }
+
+    public void clear() {
+        next = 0;
+        count = 0;
+    }
+}
@@ -31,8 +31,12 @@ public class ObjectPool<T> {
         return obj != null ? obj : factory.get();
     }
 
-    public void release(T obj) {
-        if (obj == null) return;
+    /**
+     * @return true if the object was pooled; false if the pool was full or
+     *         the reset failed, in which case the caller still owns it
+     */
+    public boolean release(T obj) {
+        if (obj == null) return false;
 
         if (pool.size() < maxSize) {
             // Reset the object if a resetter is provided
@@ -41,11 +45,13 @@ public class ObjectPool<T> {
                     resetter.accept(obj);
                 } catch (Exception e) {
                     // If reset fails, don't return to pool
-                    return;
+                    return false;
                 }
             }
             pool.offer(obj);
+            return true;
         }
+        return false;
     }
 
 
@@ -60,6 +66,16 @@ public class ObjectPool<T> {
         pool.clear();
     }
 
+    /**
+     * Empties the pool, handing each object to {@code disposer}.
+     */
+    public void drain(Consumer<T> disposer) {
+        T obj;
+        while ((obj = pool.poll()) != null) {
+            disposer.accept(obj);
+        }
+    }
+
     public int size() {
         return pool.size();
     }
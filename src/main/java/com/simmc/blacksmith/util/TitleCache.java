@@ -0,0 +1,44 @@
+package com.simmc.blacksmith.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bounded LRU cache of rendered display strings keyed by quantized state.
+ * Identical states share one string instance, so renders are skipped and
+ * {@link BossBarView} can detect unchanged titles by reference.
+ */
+public final class TitleCache<K> {
+
+    private final int maxEntries;
+    private final LinkedHashMap<K, String> cache;
+
+    public TitleCache(int maxEntries) {
+        this.maxEntries = Math.max(16, maxEntries);
+        // Access order - the eldest entry is the least recently used
+        this.cache = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, String> eldest) {
+                return size() > TitleCache.this.maxEntries;
+            }
+        };
+    }
+
+    public synchronized String get(K key, Function<? super K, String> renderer) {
+        String title = cache.get(key);
+        if (title == null) {
+            title = renderer.apply(key);
+            cache.put(key, title);
+        }
+        return title;
+    }
+
+    public synchronized void clear() {
+        cache.clear();
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+}